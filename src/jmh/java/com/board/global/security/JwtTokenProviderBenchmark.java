@@ -0,0 +1,99 @@
+package com.board.global.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.ReflectionUtils;
+
+import javax.crypto.SecretKey;
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 액세스 토큰 인증 처리량 벤치마크 (코어당 초당 처리 토큰 수) <br />
+ * 미리 생성한 파서로 1번만 파싱하는 authenticateAccessToken과 기존 방식을 비교한다. <br />
+ * 기존 방식 : 유효성 체크(validateAccessToken)와 인증 객체 생성(getAuthentication)에서 각각 파서를 생성하여 2번 파싱하고, 권한 목록을 매번 생성 <br />
+ * 실행 : ./gradlew jmh
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtTokenProviderBenchmark {
+
+    // application.yml의 로컬 설정과 같은 키
+    private static final String ACCESS_TOKEN_SECRET = "2z6oNf/GwepEYumNk5rJSIyADL+WQ3YrArbVv+LTQJs=";
+    private static final String REFRESH_TOKEN_SECRET = "iRQMvddwE87VpLcGhbrt7QEfR9tN7x84Zkr+0ifOALM=";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey accessKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        setField("accessTokenSecret", ACCESS_TOKEN_SECRET);
+        setField("refreshTokenSecret", REFRESH_TOKEN_SECRET);
+        setField("accessTokenExpirationSeconds", 3600L);
+        setField("refreshTokenExpirationSeconds", 2592000L);
+        jwtTokenProvider.init();
+
+        accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ACCESS_TOKEN_SECRET));
+
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        SecurityUser securityUser = new SecurityUser(1L, "khghouse@daum.net", authorities);
+        accessToken = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(securityUser, null, authorities))
+                .getAccessToken();
+    }
+
+    @Benchmark
+    public AuthenticatedToken authenticateAccessToken() {
+        return jwtTokenProvider.authenticateAccessToken(accessToken);
+    }
+
+    /**
+     * 비교 기준 : 기존 방식과 같이 파서 생성과 파싱을 2번 하고, 권한 문자열을 나눠 권한 목록을 새로 생성한다.
+     */
+    @Benchmark
+    public Authentication validateAndGetAuthentication() {
+        // validateAccessToken
+        parseWithNewParser(accessToken);
+
+        // getAuthentication
+        Claims claims = parseWithNewParser(accessToken);
+        List<GrantedAuthority> authorities = Arrays.stream(claims.get("authorities").toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+
+        UserDetails securityUser = new SecurityUser(claims.get("memberId", Long.class), claims.get("email", String.class), authorities);
+        return new UsernamePasswordAuthenticationToken(securityUser, null, authorities);
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(accessKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private void setField(String name, Object value) {
+        Field field = ReflectionUtils.findField(JwtTokenProvider.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, jwtTokenProvider, value);
+    }
+
+}
@@ -28,8 +28,8 @@ public class ArticleController {
     }
 
     @GetMapping("/{id}")
-    public ApiResponse<ArticleDetailResponse> getArticle(@PathVariable Long id, HttpServletRequest request) {
-        return ApiResponse.ok(articleService.getArticle(id, CommonUtil.getClientIp(request)));
+    public ApiResponse<ArticleDetailResponse> getArticle(@PathVariable Long id, HttpServletRequest request, @AuthenticationPrincipal SecurityUser securityUser) {
+        return ApiResponse.ok(articleService.getArticle(id, CommonUtil.getClientIp(request), securityUser.getMemberId()));
     }
 
     @PutMapping("/{id}")
@@ -44,8 +44,8 @@ public class ArticleController {
     }
 
     @GetMapping
-    public ApiResponse<PageResponse> getArticleList(PageRequest request) {
-        return ApiResponse.ok(articleService.getArticleList(request.toServiceRequest()));
+    public ApiResponse<PageResponse> getArticleList(PageRequest request, @RequestParam(defaultValue = "true") boolean includeContent, @AuthenticationPrincipal SecurityUser securityUser) {
+        return ApiResponse.ok(articleService.getArticleList(request.toServiceRequest(), includeContent, securityUser.getMemberId()));
     }
 
 }
@@ -6,7 +6,7 @@ import com.board.domain.article.service.ArticleLikeService;
 import com.board.domain.member.dto.response.MemberIdResponse;
 import com.board.global.common.dto.ApiResponse;
 import com.board.global.common.dto.page.PageResponseWithExtraData;
-import com.board.global.common.dto.page.PageServiceRequest;
+import com.board.global.common.dto.page.PageRequest;
 import com.board.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,13 +31,13 @@ public class ArticleLikeController {
     }
 
     @GetMapping("/articles/{id}/likes/members")
-    public ApiResponse<PageResponseWithExtraData<ArticleIdResponse>> getLikedMembers(@PathVariable Long id) {
-        return ApiResponse.ok(articleLikeService.getLikedMembers(id, PageServiceRequest.withDefault()));
+    public ApiResponse<PageResponseWithExtraData<ArticleIdResponse>> getLikedMembers(@PathVariable Long id, PageRequest request) {
+        return ApiResponse.ok(articleLikeService.getLikedMembers(id, request.toServiceRequest()));
     }
 
     @GetMapping("/members/{id}/likes/articles")
-    public ApiResponse<PageResponseWithExtraData<MemberIdResponse>> getLikedArticles(@PathVariable Long id) {
-        return ApiResponse.ok(articleLikeService.getLikedArticles(id, PageServiceRequest.withDefault()));
+    public ApiResponse<PageResponseWithExtraData<MemberIdResponse>> getLikedArticles(@PathVariable Long id, PageRequest request) {
+        return ApiResponse.ok(articleLikeService.getLikedArticles(id, request.toServiceRequest()));
     }
 
 }
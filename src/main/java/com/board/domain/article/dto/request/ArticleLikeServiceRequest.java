@@ -1,8 +1,5 @@
 package com.board.domain.article.dto.request;
 
-import com.board.domain.article.entity.Article;
-import com.board.domain.article.entity.ArticleLike;
-import com.board.domain.member.entity.Member;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -29,11 +26,4 @@ public class ArticleLikeServiceRequest {
                 .build();
     }
 
-    public ArticleLike toEntity(Article article, Member member) {
-        return ArticleLike.builder()
-                .article(article)
-                .member(member)
-                .build();
-    }
-
 }
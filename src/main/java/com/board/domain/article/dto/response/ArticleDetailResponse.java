@@ -11,6 +11,9 @@ public record ArticleDetailResponse(
         String title,
         String content,
         int viewCount,
+        int likeCount,
+        int commentCount,
+        boolean likedByMe,
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
         LocalDateTime createdDateTime,
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
@@ -18,14 +21,31 @@ public record ArticleDetailResponse(
         MemberResponse member
 ) {
     public static ArticleDetailResponse of(Article article) {
+        return of(article, 0L);
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 조회수를 더해서 응답한다.
+     */
+    public static ArticleDetailResponse of(Article article, long pendingViewCount) {
         return new ArticleDetailResponse(
                 article.getId(),
                 article.getTitle(),
                 article.getContent(),
-                article.getViewCount(),
+                (int) (article.getViewCount() + pendingViewCount),
+                article.getLikeCount(),
+                article.getCommentCount(),
+                false,
                 article.getCreatedDateTime(),
                 article.getModifiedDateTime(),
                 MemberResponse.of(article.getMember())
         );
     }
+
+    /**
+     * 캐시된 응답은 변경하지 않고, 요청 시점의 값(조회수, 요청한 회원의 좋아요 여부)으로 덮어쓴 새 응답을 리턴한다.
+     */
+    public ArticleDetailResponse overlay(long viewCount, boolean likedByMe) {
+        return new ArticleDetailResponse(id, title, content, (int) viewCount, likeCount, commentCount, likedByMe, createdDateTime, modifiedDateTime, member);
+    }
 }
@@ -0,0 +1,50 @@
+package com.board.domain.article.dto.response;
+
+import com.board.domain.member.dto.response.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 리스트 응답 (엔티티 없이 필요한 컬럼만 조회하는 프로젝션) <br />
+ * content는 미리보기 길이만큼 잘라서 조회하며, 제외하고 조회한 경우 응답에서 빠진다.
+ */
+public record ArticleSummaryResponse(
+        Long id,
+        String title,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String content,
+        int viewCount,
+        int likeCount,
+        int commentCount,
+        boolean likedByMe,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdDateTime,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime modifiedDateTime,
+        MemberResponse member
+) {
+    public static final int CONTENT_PREVIEW_LENGTH = 100;
+
+    /**
+     * 프로젝션 생성자 (좋아요 여부는 조회 후에 채운다.)
+     */
+    public ArticleSummaryResponse(Long id, String title, String content, int viewCount, int likeCount, int commentCount, LocalDateTime createdDateTime, LocalDateTime modifiedDateTime, MemberResponse member) {
+        this(id, title, content, viewCount, likeCount, commentCount, false, createdDateTime, modifiedDateTime, member);
+    }
+
+    /**
+     * content를 제외하고 조회할 때 사용하는 프로젝션 생성자
+     */
+    public ArticleSummaryResponse(Long id, String title, int viewCount, int likeCount, int commentCount, LocalDateTime createdDateTime, LocalDateTime modifiedDateTime, MemberResponse member) {
+        this(id, title, null, viewCount, likeCount, commentCount, false, createdDateTime, modifiedDateTime, member);
+    }
+
+    /**
+     * 요청 시점의 값(DB에 아직 반영되지 않은 조회수, 요청한 회원의 좋아요 여부)을 더한 새 응답을 리턴한다.
+     */
+    public ArticleSummaryResponse overlay(long pendingViewCount, boolean likedByMe) {
+        return new ArticleSummaryResponse(id, title, content, (int) (viewCount + pendingViewCount), likeCount, commentCount, likedByMe, createdDateTime, modifiedDateTime, member);
+    }
+}
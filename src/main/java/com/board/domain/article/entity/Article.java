@@ -16,6 +16,10 @@ import static com.board.global.common.enumeration.ErrorCode.*;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "idx_article_view_count", columnList = "view_count, id"),
+        @Index(name = "idx_article_created_date_time", columnList = "created_date_time, id")
+})
 public class Article extends BaseEntity {
 
     @Id
@@ -34,8 +38,18 @@ public class Article extends BaseEntity {
 
     private Boolean deleted;
 
+    // 조회수는 JDBC(view_count = view_count + ?)로만 증가시키므로 게시글 수정/삭제 시 UPDATE 대상에서 제외한다. (반영된 조회수를 덮어쓰지 않도록)
+    @Column(updatable = false)
     private int viewCount;
 
+    // 좋아요 등록/취소 시 같은 트랜잭션에서 JDBC로 증감 (좋아요 수를 COUNT 쿼리 없이 응답하기 위함), 조회수와 같은 이유로 UPDATE 대상에서 제외한다.
+    @Column(updatable = false)
+    private int likeCount;
+
+    // 댓글 등록/삭제 시 같은 트랜잭션에서 JDBC로 증감 (댓글 수를 COUNT 쿼리 없이 응답하기 위함), 조회수와 같은 이유로 UPDATE 대상에서 제외한다.
+    @Column(updatable = false)
+    private int commentCount;
+
     @Builder
     private Article(Long id, Member member, String title, String content, Boolean deleted, int viewCount) {
         this.id = id;
@@ -80,8 +94,4 @@ public class Article extends BaseEntity {
         }
     }
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-
 }
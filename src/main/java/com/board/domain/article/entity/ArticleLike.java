@@ -11,6 +11,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_article_like_article_member", columnNames = {"article_id", "member_id"})
+})
 public class ArticleLike extends BaseEntity {
 
     @Id
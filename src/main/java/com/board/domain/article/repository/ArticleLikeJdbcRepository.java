@@ -0,0 +1,78 @@
+package com.board.domain.article.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 엔티티를 조회하지 않고 ID만으로 좋아요를 등록/취소하고, 게시글의 좋아요 수(article.like_count)를 증감/보정한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArticleLikeJdbcRepository {
+
+    // 게시글과 회원이 존재하고 아직 좋아요를 누르지 않은 경우에만 등록 (조회와 등록을 1개의 쿼리로 처리)
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO article_like (article_id, member_id, created_date_time, modified_date_time)
+            SELECT a.id, m.id, ?, ?
+            FROM article a
+            INNER JOIN member m ON m.id = ?
+            WHERE a.id = ?
+            AND NOT EXISTS (SELECT 1 FROM article_like al WHERE al.article_id = a.id AND al.member_id = m.id)
+            """;
+    private static final String DELETE_SQL = "DELETE FROM article_like WHERE article_id = ? AND member_id = ?";
+    private static final String INCREMENT_LIKE_COUNT_SQL = "UPDATE article SET like_count = like_count + ? WHERE id = ? AND like_count + ? >= 0";
+    private static final String SELECT_MAX_ARTICLE_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM article";
+    // 실제 좋아요 수와 다른 게시글만 보정 (컬럼 추가 전에 등록된 좋아요 반영 포함)
+    private static final String RECONCILE_LIKE_COUNT_SQL = """
+            UPDATE article a
+            SET like_count = (SELECT COUNT(*) FROM article_like al WHERE al.article_id = a.id)
+            WHERE a.id BETWEEN ? AND ?
+            AND a.like_count <> (SELECT COUNT(*) FROM article_like al WHERE al.article_id = a.id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 좋아요를 등록한다. 등록되었으면 true, 이미 등록되어 있거나 게시글/회원이 없으면 false를 리턴한다. <br />
+     * 동시에 같은 좋아요가 등록되는 경우 유니크 제약 조건 위반이 발생하며, 이미 등록된 것으로 처리한다.
+     */
+    public boolean insertIfAbsent(Long articleId, Long memberId) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, now, now, memberId, articleId) > 0;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 좋아요를 삭제한다. 삭제되었으면 true를 리턴한다.
+     */
+    public boolean delete(Long articleId, Long memberId) {
+        return jdbcTemplate.update(DELETE_SQL, articleId, memberId) > 0;
+    }
+
+    /**
+     * 게시글의 좋아요 수를 delta만큼 증감한다. (row 단위 원자적 증감, 0 미만으로 내려가지 않음)
+     */
+    public void incrementLikeCount(Long articleId, int delta) {
+        jdbcTemplate.update(INCREMENT_LIKE_COUNT_SQL, delta, articleId, delta);
+    }
+
+    public long findMaxArticleId() {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ARTICLE_ID_SQL, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * ID 범위 내 게시글의 좋아요 수를 실제 좋아요 수로 보정하고, 보정된 게시글 수를 리턴한다.
+     */
+    public int reconcileLikeCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE_LIKE_COUNT_SQL, fromId, toId);
+    }
+
+}
@@ -9,12 +9,16 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -25,48 +29,89 @@ public class ArticleLikeQueryRepository {
     private final QMember member = QMember.member;
     private final QArticle article = QArticle.article;
 
+    /**
+     * 게시글에 좋아요를 누른 회원 목록을 조회한다. <br />
+     * 조회 결과만으로 전체 건수를 알 수 있으면 COUNT 쿼리를 생략한다.
+     */
     public Page<ArticleLike> findLikedMembers(Long articleId, Pageable pageable) {
-        JPAQuery<ArticleLike> query = queryFactory.selectFrom(articleLike)
-                .innerJoin(articleLike.member, member)
-                .fetchJoin()
-                .where(articleLike.article.id.eq(articleId)
-                        .and(member.deleted.isFalse()))
-                .orderBy(QuerydslUtil.createOrderSpecifiers(pageable, articleLike));
+        JPAQuery<ArticleLike> query = selectLikedMembers(articleId, pageable);
         QuerydslUtil.applyPage(query, pageable);
         List<ArticleLike> dataList = query.fetch();
 
-        long count = pageable.isUnpaged() ? dataList.size() :
-                Optional.ofNullable(queryFactory.select(articleLike.count())
-                                .from(articleLike)
-                                .innerJoin(articleLike.member, member)
-                                .where(articleLike.article.id.eq(articleId)
-                                        .and(member.deleted.isFalse()))
-                                .fetchOne())
-                        .orElse(0L);
+        return PageableExecutionUtils.getPage(dataList, pageable, () -> countLikedMembers(articleId));
+    }
+
+    public Slice<ArticleLike> findLikedMemberSlice(Long articleId, Pageable pageable) {
+        return QuerydslUtil.fetchSlice(selectLikedMembers(articleId, pageable), pageable);
+    }
 
-        return new PageImpl<>(dataList, pageable, count);
+    public long countLikedMembers(Long articleId) {
+        return Optional.ofNullable(queryFactory.select(articleLike.count())
+                        .from(articleLike)
+                        .innerJoin(articleLike.member, member)
+                        .where(articleLike.article.id.eq(articleId)
+                                .and(member.deleted.isFalse()))
+                        .fetchOne())
+                .orElse(0L);
     }
 
+    /**
+     * 회원이 좋아요를 누른 게시글 목록을 조회한다. <br />
+     * 조회 결과만으로 전체 건수를 알 수 있으면 COUNT 쿼리를 생략한다.
+     */
     public Page<ArticleLike> findLikedArticles(Long memberId, Pageable pageable) {
-        JPAQuery<ArticleLike> query = queryFactory.selectFrom(articleLike)
+        JPAQuery<ArticleLike> query = selectLikedArticles(memberId, pageable);
+        QuerydslUtil.applyPage(query, pageable);
+        List<ArticleLike> dataList = query.fetch();
+
+        return PageableExecutionUtils.getPage(dataList, pageable, () -> countLikedArticles(memberId));
+    }
+
+    public Slice<ArticleLike> findLikedArticleSlice(Long memberId, Pageable pageable) {
+        return QuerydslUtil.fetchSlice(selectLikedArticles(memberId, pageable), pageable);
+    }
+
+    public long countLikedArticles(Long memberId) {
+        return Optional.ofNullable(queryFactory.select(articleLike.count())
+                        .from(articleLike)
+                        .innerJoin(articleLike.article, article)
+                        .where(articleLike.member.id.eq(memberId)
+                                .and(article.deleted.isFalse()))
+                        .fetchOne())
+                .orElse(0L);
+    }
+
+    /**
+     * 회원이 좋아요를 누른 게시글 ID를 조회한다. (페이지 단위로 IN 쿼리 1회)
+     */
+    public Set<Long> findLikedArticleIds(Long memberId, Collection<Long> articleIds) {
+        if (memberId == null || articleIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(queryFactory.select(articleLike.article.id)
+                .from(articleLike)
+                .where(articleLike.member.id.eq(memberId)
+                        .and(articleLike.article.id.in(articleIds)))
+                .fetch());
+    }
+
+    private JPAQuery<ArticleLike> selectLikedMembers(Long articleId, Pageable pageable) {
+        return queryFactory.selectFrom(articleLike)
+                .innerJoin(articleLike.member, member)
+                .fetchJoin()
+                .where(articleLike.article.id.eq(articleId)
+                        .and(member.deleted.isFalse()))
+                .orderBy(QuerydslUtil.createOrderSpecifiers(pageable, articleLike));
+    }
+
+    private JPAQuery<ArticleLike> selectLikedArticles(Long memberId, Pageable pageable) {
+        return queryFactory.selectFrom(articleLike)
                 .innerJoin(articleLike.article, article)
                 .fetchJoin()
                 .where(articleLike.member.id.eq(memberId)
                         .and(article.deleted.isFalse()))
                 .orderBy(QuerydslUtil.createOrderSpecifiers(pageable, articleLike));
-        QuerydslUtil.applyPage(query, pageable);
-        List<ArticleLike> dataList = query.fetch();
-
-        long count = pageable.isUnpaged() ? dataList.size() :
-                Optional.ofNullable(queryFactory.select(articleLike.count())
-                                .from(articleLike)
-                                .innerJoin(articleLike.article, article)
-                                .where(articleLike.member.id.eq(memberId)
-                                        .and(article.deleted.isFalse()))
-                                .fetchOne())
-                        .orElse(0L);
-
-        return new PageImpl<>(dataList, pageable, count);
     }
 
 }
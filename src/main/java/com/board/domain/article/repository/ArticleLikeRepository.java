@@ -11,6 +11,4 @@ public interface ArticleLikeRepository extends JpaRepository<ArticleLike, Long>
 
     boolean existsByArticleAndMember(Article article, Member member);
 
-    void deleteByArticleAndMember(Article article, Member member);
-
 }
@@ -1,45 +1,191 @@
 package com.board.domain.article.repository;
 
-import com.board.domain.article.entity.Article;
+import com.board.domain.article.dto.response.ArticleSummaryResponse;
 import com.board.domain.article.entity.QArticle;
+import com.board.domain.member.dto.response.MemberResponse;
 import com.board.domain.member.entity.QMember;
+import com.board.global.common.dto.page.PageCursor;
 import com.board.global.common.util.QuerydslUtil;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class ArticleQueryRepository {
 
+    // 커서 기반 페이징을 지원하는 정렬 기준 컬럼 (ID를 보조 정렬 기준으로 사용)
+    private static final Set<String> CURSOR_SORT_COLUMNS = Set.of("id", "viewCount", "createdDateTime");
+
     private final JPAQueryFactory queryFactory;
     private final QArticle article = QArticle.article;
     private final QMember member = QMember.member;
 
-    public Page<Article> findActiveArticles(Pageable pageable) {
-        JPAQuery<Article> query = queryFactory.selectFrom(article)
+    /**
+     * 활성 게시글을 페이지 단위로 조회한다. <br />
+     * 엔티티 대신 리스트에 필요한 컬럼만 DTO로 조회하며, 조회 결과만으로 전체 건수를 알 수 있으면 COUNT 쿼리를 생략한다.
+     */
+    public Page<ArticleSummaryResponse> findActiveArticles(Pageable pageable, boolean includeContent) {
+        JPAQuery<ArticleSummaryResponse> query = selectActiveArticles(pageable, includeContent);
+        QuerydslUtil.applyPage(query, pageable);
+        List<ArticleSummaryResponse> dataList = query.fetch();
+
+        return PageableExecutionUtils.getPage(dataList, pageable, this::countActiveArticles);
+    }
+
+    /**
+     * 활성 게시글을 슬라이스 단위로 조회한다. (COUNT 쿼리 없이 다음 페이지 존재 여부만 확인)
+     */
+    public Slice<ArticleSummaryResponse> findActiveArticleSlice(Pageable pageable, boolean includeContent) {
+        return QuerydslUtil.fetchSlice(selectActiveArticles(pageable, includeContent), pageable);
+    }
+
+    public long countActiveArticles() {
+        return Optional.ofNullable(queryFactory.select(article.count())
+                        .from(article)
+                        .where(article.deleted.isFalse())
+                        .fetchOne())
+                .orElse(0L);
+    }
+
+    /**
+     * 커서 이후의 게시글을 조회한다. (keyset 페이징) <br />
+     * OFFSET 없이 (정렬 기준 값, ID) 조건으로 탐색하므로 페이지 깊이와 관계없이 조회 비용이 일정하다.
+     */
+    public Slice<ArticleSummaryResponse> findActiveArticlesByCursor(PageCursor cursor, Pageable pageable, boolean includeContent) {
+        Sort.Order order = getCursorSortOrder(pageable);
+
+        JPAQuery<ArticleSummaryResponse> query = selectActiveArticles(pageable, includeContent)
+                .where(afterCursor(cursor, order));
+
+        // 다음 페이지 존재 여부를 확인하기 위해 1건을 더 조회
+        return QuerydslUtil.fetchSlice(query, pageable);
+    }
+
+    /**
+     * 조회 결과의 마지막 게시글로 다음 페이지 커서를 생성한다. <br />
+     * 다음 페이지가 없거나 커서 페이징을 지원하지 않는 정렬 기준이면 null을 리턴한다.
+     */
+    public String createNextCursor(Slice<ArticleSummaryResponse> slice) {
+        if (!slice.hasNext() || !slice.hasContent() || !supportsCursor(slice.getPageable())) {
+            return null;
+        }
+
+        Sort.Order order = getCursorSortOrder(slice.getPageable());
+        ArticleSummaryResponse last = slice.getContent().get(slice.getNumberOfElements() - 1);
+
+        return PageCursor.of(order.getProperty(), getSortValue(last, order.getProperty()), last.id())
+                .encode();
+    }
+
+    private JPAQuery<ArticleSummaryResponse> selectActiveArticles(Pageable pageable, boolean includeContent) {
+        JPAQuery<ArticleSummaryResponse> query = queryFactory.select(summaryProjection(includeContent))
+                .from(article)
                 .innerJoin(article.member, member)
-                .fetchJoin()
                 .where(article.deleted.isFalse())
                 .orderBy(QuerydslUtil.createOrderSpecifiers(pageable, article));
-        QuerydslUtil.applyPage(query, pageable);
-        List<Article> dataList = query.fetch();
+        applyIdTiebreaker(query, pageable);
+        return query;
+    }
+
+    /**
+     * 리스트 응답 프로젝션 (content는 미리보기 길이만큼 잘라서 조회하거나 제외)
+     */
+    private Expression<ArticleSummaryResponse> summaryProjection(boolean includeContent) {
+        Expression<MemberResponse> memberResponse = Projections.constructor(MemberResponse.class, member.id, member.email);
+
+        if (includeContent) {
+            return Projections.constructor(ArticleSummaryResponse.class,
+                    article.id, article.title, article.content.substring(0, ArticleSummaryResponse.CONTENT_PREVIEW_LENGTH),
+                    article.viewCount, article.likeCount, article.commentCount, article.createdDateTime, article.modifiedDateTime, memberResponse);
+        }
+        return Projections.constructor(ArticleSummaryResponse.class,
+                article.id, article.title,
+                article.viewCount, article.likeCount, article.commentCount, article.createdDateTime, article.modifiedDateTime, memberResponse);
+    }
+
+    private boolean supportsCursor(Pageable pageable) {
+        return pageable.isPaged() && pageable.getSort().stream()
+                .findFirst()
+                .map(order -> CURSOR_SORT_COLUMNS.contains(order.getProperty()))
+                .orElse(false);
+    }
+
+    private Sort.Order getCursorSortOrder(Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("정렬 기준이 없습니다."));
 
-        long count = pageable.isUnpaged() ? dataList.size() :
-                Optional.ofNullable(queryFactory.select(article.count())
-                                .from(article)
-                                .where(article.deleted.isFalse())
-                                .fetchOne())
-                        .orElse(0L);
+        if (!CURSOR_SORT_COLUMNS.contains(order.getProperty())) {
+            throw new IllegalArgumentException("커서 페이징을 지원하지 않는 정렬 기준입니다. [" + order.getProperty() + "]");
+        }
+        return order;
+    }
+
+    /**
+     * ID 외의 컬럼으로 정렬하는 경우 같은 값 사이의 순서가 고정되도록 ID를 보조 정렬 기준으로 추가한다.
+     */
+    private void applyIdTiebreaker(JPAQuery<?> query, Pageable pageable) {
+        pageable.getSort().stream()
+                .findFirst()
+                .filter(order -> !"id".equals(order.getProperty()))
+                .ifPresent(order -> query.orderBy(new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC, article.id)));
+    }
+
+    /**
+     * (정렬 기준 값, ID) > (커서 값, 커서 ID) 조건을 생성한다. (내림차순이면 <)
+     */
+    private BooleanExpression afterCursor(PageCursor cursor, Sort.Order order) {
+        if (cursor == null) {
+            return null;
+        }
+
+        if (!order.getProperty().equals(cursor.sortByColumn())) {
+            throw new IllegalArgumentException("커서의 정렬 기준과 요청한 정렬 기준이 다릅니다.");
+        }
+
+        boolean asc = order.isAscending();
+        BooleanExpression afterId = asc ? article.id.gt(cursor.id()) : article.id.lt(cursor.id());
+
+        switch (order.getProperty()) {
+            case "viewCount" -> {
+                int viewCount = Integer.parseInt(cursor.sortValue());
+                return (asc ? article.viewCount.gt(viewCount) : article.viewCount.lt(viewCount))
+                        .or(article.viewCount.eq(viewCount).and(afterId));
+            }
+            case "createdDateTime" -> {
+                LocalDateTime createdDateTime = LocalDateTime.parse(cursor.sortValue());
+                return (asc ? article.createdDateTime.gt(createdDateTime) : article.createdDateTime.lt(createdDateTime))
+                        .or(article.createdDateTime.eq(createdDateTime).and(afterId));
+            }
+            default -> {
+                return afterId;
+            }
+        }
+    }
 
-        return new PageImpl<>(dataList, pageable, count);
+    private Object getSortValue(ArticleSummaryResponse lastArticle, String sortByColumn) {
+        return switch (sortByColumn) {
+            case "viewCount" -> lastArticle.viewCount();
+            case "createdDateTime" -> lastArticle.createdDateTime();
+            default -> lastArticle.id();
+        };
     }
 
 }
@@ -0,0 +1,40 @@
+package com.board.domain.article.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ArticleViewCountRepository {
+
+    private static final String INCREMENT_VIEW_COUNT_SQL = "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+    private static final String SELECT_VIEW_COUNT_SQL = "SELECT view_count FROM article WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 누적 조회수를 한 번의 배치로 반영한다.
+     */
+    public void incrementViewCounts(Map<Long, Long> viewCounts) {
+        List<Object[]> batchArgs = viewCounts.entrySet()
+                .stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(INCREMENT_VIEW_COUNT_SQL, batchArgs);
+    }
+
+    /**
+     * DB에 반영된 조회수를 조회한다. 게시글이 없으면 0
+     */
+    public long findViewCount(Long articleId) {
+        List<Long> viewCounts = jdbcTemplate.queryForList(SELECT_VIEW_COUNT_SQL, Long.class, articleId);
+        return viewCounts.isEmpty() ? 0L : viewCounts.get(0);
+    }
+
+}
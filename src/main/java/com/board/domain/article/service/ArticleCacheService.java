@@ -0,0 +1,193 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.dto.response.ArticleDetailResponse;
+import com.board.global.common.util.TransactionUtil;
+import com.board.global.infrastructure.redis.Redis;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 상세 응답을 2단계로 캐싱한다. (read-through) <br />
+ * 1차 : 노드 로컬 캐시 (Caffeine, W-TinyLFU) / 2차 : 레디스 <br />
+ * 캐시된 응답은 DB에 반영된 시점의 값이며, 조회수는 레디스 카운터로 따로 관리하여 조회 시점에 덮어쓴다. (조회수 반영 시 캐시를 무효화하지 않음) <br />
+ * 게시글이 변경되면(좋아요 수, 댓글 수 변경 포함) 레디스 캐시를 삭제하고 pub/sub으로 모든 노드의 로컬 캐시를 무효화한다. <br />
+ * 무효화 전에 DB에서 조회한 응답이 무효화 후에 레디스에 등록되지 않도록, 삭제 대신 잠시 동안 유지되는 삭제 표시를 등록한다.
+ */
+@Slf4j
+@Service
+public class ArticleCacheService {
+
+    public static final String PREFIX_REDIS_KEY_ARTICLE_DETAIL = "articleDetail:";
+    public static final String PREFIX_REDIS_KEY_ARTICLE_VIEW_COUNT = "articleViewCount:";
+    public static final String CHANNEL_ARTICLE_DETAIL_EVICTION = "articleDetail:eviction";
+    private static final String DELIMITER = ",";
+    private static final String EVICTED = "evicted";
+    private static final long EVICTED_TTL_IN_SECONDS = 5;
+    private static final long VIEW_COUNT_TTL_IN_SECONDS = 10 * 60;
+
+    private final Redis redis;
+    private final ObjectMapper objectMapper;
+
+    private final boolean enabled;
+    private final long redisTtlSeconds;
+    private final Cache<Long, ArticleDetailResponse> localCache;
+
+    public ArticleCacheService(Redis redis,
+                               ObjectMapper objectMapper,
+                               @Value("${article.detail-cache.enabled:true}") boolean enabled,
+                               @Value("${article.detail-cache.local-maximum-size:10000}") long localMaximumSize,
+                               @Value("${article.detail-cache.local-ttl-seconds:300}") long localTtlSeconds,
+                               @Value("${article.detail-cache.redis-ttl-seconds:1800}") long redisTtlSeconds) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.redisTtlSeconds = redisTtlSeconds;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtlSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (enabled) {
+            redis.subscribe(CHANNEL_ARTICLE_DETAIL_EVICTION, this::onMessage);
+        }
+    }
+
+    /**
+     * 로컬 캐시 → 레디스 → DB(loader) 순으로 조회하고, 하위 단계에서 조회한 값은 상위 캐시에 등록한다. <br />
+     * 같은 노드에서 동시에 캐시 미스가 발생해도 loader는 1번만 실행된다.
+     */
+    public ArticleDetailResponse getArticleDetail(Long id, Supplier<ArticleDetailResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        return localCache.get(id, key -> {
+            ArticleDetailResponse cached = getFromRedis(key);
+            if (cached != null) {
+                return cached;
+            }
+
+            ArticleDetailResponse loaded = loader.get();
+            putToRedis(key, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 캐시된 응답에 덮어쓸 조회수(DB에 반영된 조회수)를 리턴한다. <br />
+     * 레디스 카운터로 조회하고, 없으면 loader(DB)로 초기화한다. 조회수 반영 시 증가시키며, 유효시간이 지나면 다시 DB로 보정한다. <br />
+     * 캐시를 사용하지 않으면 응답이 DB에서 조회한 값이므로 그대로 리턴한다.
+     */
+    public long getViewCount(ArticleDetailResponse article, LongSupplier loader) {
+        if (!enabled) {
+            return article.viewCount();
+        }
+
+        String key = PREFIX_REDIS_KEY_ARTICLE_VIEW_COUNT + article.id();
+        String viewCount = redis.get(key);
+        if (viewCount != null) {
+            return Long.parseLong(viewCount);
+        }
+
+        long loaded = loader.getAsLong();
+        redis.setIfAbsent(key, String.valueOf(loaded), VIEW_COUNT_TTL_IN_SECONDS, TimeUnit.SECONDS);
+        return loaded;
+    }
+
+    /**
+     * DB에 반영된 조회수만큼 조회수 카운터를 증가시킨다. (카운터가 없으면 다음 조회 시 DB로 초기화되므로 증가시키지 않는다.)
+     */
+    public void incrementViewCounts(Map<Long, Long> viewCounts) {
+        if (!enabled) {
+            return;
+        }
+
+        viewCounts.forEach((id, count) -> {
+            try {
+                redis.incrementIfExists(PREFIX_REDIS_KEY_ARTICLE_VIEW_COUNT + id, count);
+            } catch (Exception e) {
+                log.warn("게시글 조회수 카운터 증가에 실패했습니다. [id] : {}, [errorMessage] : {}", id, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션이 커밋된 후에 캐시를 무효화한다.
+     */
+    public void evictAfterCommit(Long id) {
+        TransactionUtil.runAfterCommit(() -> evict(List.of(id)));
+    }
+
+    /**
+     * 레디스 캐시를 삭제 표시로 교체하고 모든 노드(자신 포함)에 로컬 캐시 무효화 메시지를 발행한다. <br />
+     * 삭제 표시가 유지되는 동안에는 무효화 전에 DB에서 조회한 응답이 레디스에 등록되지 않는다.
+     */
+    public void evict(Collection<Long> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+
+        localCache.invalidateAll(ids);
+        try {
+            redis.setAll(ids.stream()
+                    .collect(Collectors.toMap(id -> PREFIX_REDIS_KEY_ARTICLE_DETAIL + id, id -> EVICTED, (a, b) -> a)), EVICTED_TTL_IN_SECONDS, TimeUnit.SECONDS);
+            redis.publish(CHANNEL_ARTICLE_DETAIL_EVICTION, ids.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(DELIMITER)));
+        } catch (Exception e) {
+            log.error("게시글 캐시 무효화에 실패했습니다. [ids] : {}, [errorMessage] : {}", ids, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지를 수신하여 로컬 캐시를 삭제한다.
+     */
+    public void onMessage(String body) {
+        try {
+            localCache.invalidateAll(Arrays.stream(body.split(DELIMITER))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toList()));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 게시글 캐시 무효화 메시지입니다. [message] : {}", body);
+        }
+    }
+
+    private ArticleDetailResponse getFromRedis(Long id) {
+        try {
+            String json = redis.get(PREFIX_REDIS_KEY_ARTICLE_DETAIL + id);
+            return json != null && !EVICTED.equals(json) ? objectMapper.readValue(json, ArticleDetailResponse.class) : null;
+        } catch (Exception e) {
+            log.warn("레디스 게시글 캐시 조회에 실패했습니다. [id] : {}, [errorMessage] : {}", id, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 레디스에 없을 때만 등록한다. (삭제 표시가 있으면 등록하지 않는다.)
+     */
+    private void putToRedis(Long id, ArticleDetailResponse response) {
+        try {
+            redis.setIfAbsent(PREFIX_REDIS_KEY_ARTICLE_DETAIL + id, objectMapper.writeValueAsString(response), redisTtlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("레디스 게시글 캐시 등록에 실패했습니다. [id] : {}, [errorMessage] : {}", id, e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.repository.ArticleLikeQueryRepository;
+import com.board.domain.article.repository.ArticleQueryRepository;
+import com.board.global.common.util.TransactionUtil;
+import com.board.global.infrastructure.redis.Redis;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 게시글 리스트의 전체 건수를 COUNT 쿼리 대신 레디스 카운터로 관리한다. <br />
+ * 카운터가 없으면 COUNT 쿼리로 초기화하고, 등록/삭제 트랜잭션이 커밋된 후에 증감한다. <br />
+ * 삭제된 회원/게시글 등으로 실제 건수와 어긋날 수 있으므로 유효시간이 지나면 다시 COUNT 쿼리로 보정한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleCountService {
+
+    public static final String REDIS_KEY_ACTIVE_ARTICLE_COUNT = "articleCount:active";
+    public static final String PREFIX_REDIS_KEY_LIKED_MEMBER_COUNT = "articleLikeCount:article:";
+    public static final String PREFIX_REDIS_KEY_LIKED_ARTICLE_COUNT = "articleLikeCount:member:";
+    private static final long COUNT_TTL_IN_SECONDS = 10 * 60;
+
+    private final Redis redis;
+    private final ArticleQueryRepository articleQueryRepository;
+    private final ArticleLikeQueryRepository articleLikeQueryRepository;
+
+    public long getActiveArticleCount() {
+        return getCount(REDIS_KEY_ACTIVE_ARTICLE_COUNT, articleQueryRepository::countActiveArticles);
+    }
+
+    public long getLikedMemberCount(Long articleId) {
+        return getCount(PREFIX_REDIS_KEY_LIKED_MEMBER_COUNT + articleId, () -> articleLikeQueryRepository.countLikedMembers(articleId));
+    }
+
+    public long getLikedArticleCount(Long memberId) {
+        return getCount(PREFIX_REDIS_KEY_LIKED_ARTICLE_COUNT + memberId, () -> articleLikeQueryRepository.countLikedArticles(memberId));
+    }
+
+    public void increaseActiveArticleCount() {
+        incrementAfterCommit(REDIS_KEY_ACTIVE_ARTICLE_COUNT, 1);
+    }
+
+    public void decreaseActiveArticleCount() {
+        incrementAfterCommit(REDIS_KEY_ACTIVE_ARTICLE_COUNT, -1);
+    }
+
+    public void increaseLikeCount(Long articleId, Long memberId) {
+        incrementAfterCommit(PREFIX_REDIS_KEY_LIKED_MEMBER_COUNT + articleId, 1);
+        incrementAfterCommit(PREFIX_REDIS_KEY_LIKED_ARTICLE_COUNT + memberId, 1);
+    }
+
+    public void decreaseLikeCount(Long articleId, Long memberId) {
+        incrementAfterCommit(PREFIX_REDIS_KEY_LIKED_MEMBER_COUNT + articleId, -1);
+        incrementAfterCommit(PREFIX_REDIS_KEY_LIKED_ARTICLE_COUNT + memberId, -1);
+    }
+
+    private long getCount(String key, LongSupplier countQuery) {
+        String count = redis.get(key);
+        if (count != null) {
+            return Long.parseLong(count);
+        }
+
+        long totalCount = countQuery.getAsLong();
+        redis.setIfAbsent(key, String.valueOf(totalCount), COUNT_TTL_IN_SECONDS, TimeUnit.SECONDS);
+        return totalCount;
+    }
+
+    /**
+     * 롤백된 변경이 카운터에 반영되지 않도록 트랜잭션이 커밋된 후에 증감한다. <br />
+     * 카운터가 초기화되지 않은 상태라면 다음 조회 시 COUNT 쿼리로 초기화되므로 증감하지 않는다.
+     */
+    private void incrementAfterCommit(String key, long delta) {
+        TransactionUtil.runAfterCommit(() -> increment(key, delta));
+    }
+
+    private void increment(String key, long delta) {
+        try {
+            redis.incrementIfExists(key, delta);
+        } catch (Exception e) {
+            log.warn("카운터 증감 실패 [key: {}, delta: {}]", key, delta, e);
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.repository.ArticleLikeJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글의 좋아요 수(article.like_count)를 실제 좋아요 수로 보정한다. <br />
+ * 좋아요 등록/취소 트랜잭션에서 함께 증감하지만, 컬럼 추가 전에 등록된 좋아요나 장애 등으로 어긋난 값은 주기적으로 보정한다.
+ */
+@Slf4j
+@Service
+public class ArticleLikeCountService {
+
+    private final ArticleLikeJdbcRepository articleLikeJdbcRepository;
+    private final int reconciliationChunkSize;
+
+    public ArticleLikeCountService(ArticleLikeJdbcRepository articleLikeJdbcRepository,
+                                   @Value("${article.like-count-reconciliation.chunk-size:1000}") int reconciliationChunkSize) {
+        this.articleLikeJdbcRepository = articleLikeJdbcRepository;
+        this.reconciliationChunkSize = reconciliationChunkSize;
+    }
+
+    /**
+     * 게시글 ID 범위를 나눠서 좋아요 수를 보정한다. <br />
+     * 범위마다 별도의 UPDATE로 처리하여 한 번에 많은 row lock을 잡지 않는다.
+     */
+    @Scheduled(cron = "${article.like-count-reconciliation.cron:0 40 4 * * *}")
+    public void reconcile() {
+        long maxId = articleLikeJdbcRepository.findMaxArticleId();
+        int reconciledCount = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += reconciliationChunkSize) {
+            try {
+                reconciledCount += articleLikeJdbcRepository.reconcileLikeCounts(fromId, fromId + reconciliationChunkSize - 1);
+            } catch (Exception e) {
+                log.error("좋아요 수 보정에 실패했습니다. [fromId] : {}, [errorMessage] : {}", fromId, e.getMessage());
+            }
+        }
+
+        if (reconciledCount > 0) {
+            log.warn("실제 좋아요 수와 다른 게시글의 좋아요 수를 보정했습니다. [count] : {}", reconciledCount);
+        }
+    }
+
+}
@@ -3,14 +3,12 @@ package com.board.domain.article.service;
 import com.board.domain.article.dto.request.ArticleLikeServiceRequest;
 import com.board.domain.article.dto.response.ArticleIdResponse;
 import com.board.domain.article.dto.response.ArticleResponse;
-import com.board.domain.article.entity.Article;
 import com.board.domain.article.entity.ArticleLike;
+import com.board.domain.article.repository.ArticleLikeJdbcRepository;
 import com.board.domain.article.repository.ArticleLikeQueryRepository;
-import com.board.domain.article.repository.ArticleLikeRepository;
 import com.board.domain.article.repository.ArticleRepository;
 import com.board.domain.member.dto.response.MemberIdResponse;
 import com.board.domain.member.dto.response.MemberResponse;
-import com.board.domain.member.entity.Member;
 import com.board.domain.member.service.MemberService;
 import com.board.global.common.dto.page.PageResponseWithExtraData;
 import com.board.global.common.dto.page.PageServiceRequest;
@@ -19,6 +17,7 @@ import com.board.global.common.exception.UnprocessableEntityException;
 import com.board.global.common.util.CommonUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,27 +31,51 @@ import static com.board.global.common.enumeration.ErrorCode.ARTICLE_NOT_FOUND;
 public class ArticleLikeService {
 
     private final MemberService memberService;
+    private final ArticleCountService articleCountService;
+    private final ArticleCacheService articleCacheService;
 
     private final ArticleRepository articleRepository;
-    private final ArticleLikeRepository articleLikeRepository;
+    private final ArticleLikeJdbcRepository articleLikeJdbcRepository;
     private final ArticleLikeQueryRepository articleLikeQueryRepository;
 
+    /**
+     * 게시글 좋아요를 등록한다. (이미 등록되어 있으면 무시) <br />
+     * 엔티티를 조회하지 않고 등록 쿼리 1개와 좋아요 수 증가 쿼리 1개로 처리하며,
+     * 등록되지 않은 경우에만 원인(게시글/회원 없음, 이미 등록)을 확인한다. <br />
+     * 캐시된 게시글 상세의 좋아요 수가 바뀌므로 커밋 후에 캐시를 무효화한다.
+     */
     @Transactional
     public void like(ArticleLikeServiceRequest request) {
-        ArticleAndMember articleAndMember = getArticleAndMember(request.getArticleId(), request.getMemberId());
-
-        if (!articleLikeRepository.existsByArticleAndMember(articleAndMember.article(), articleAndMember.member())) {
-            articleLikeRepository.save(request.toEntity(articleAndMember.article(), articleAndMember.member()));
+        if (!articleLikeJdbcRepository.insertIfAbsent(request.getArticleId(), request.getMemberId())) {
+            validateArticleAndMember(request.getArticleId(), request.getMemberId());
+            return;
         }
+
+        articleLikeJdbcRepository.incrementLikeCount(request.getArticleId(), 1);
+        articleCountService.increaseLikeCount(request.getArticleId(), request.getMemberId());
+        articleCacheService.evictAfterCommit(request.getArticleId());
     }
 
+    /**
+     * 게시글 좋아요를 취소한다. (등록되어 있지 않으면 무시)
+     */
     @Transactional
     public void unlike(ArticleLikeServiceRequest request) {
-        ArticleAndMember articleAndMember = getArticleAndMember(request.getArticleId(), request.getMemberId());
-        articleLikeRepository.deleteByArticleAndMember(articleAndMember.article(), articleAndMember.member());
+        if (!articleLikeJdbcRepository.delete(request.getArticleId(), request.getMemberId())) {
+            validateArticleAndMember(request.getArticleId(), request.getMemberId());
+            return;
+        }
+
+        articleLikeJdbcRepository.incrementLikeCount(request.getArticleId(), -1);
+        articleCountService.decreaseLikeCount(request.getArticleId(), request.getMemberId());
+        articleCacheService.evictAfterCommit(request.getArticleId());
     }
 
     public PageResponseWithExtraData<ArticleIdResponse> getLikedMembers(Long articleId, PageServiceRequest request) {
+        if (request.isSliceMode()) {
+            return getLikedMemberSlice(articleId, request);
+        }
+
         Page<ArticleLike> pageArticleLikes;
         try {
             pageArticleLikes = articleLikeQueryRepository.findLikedMembers(articleId, request.toPageable());
@@ -66,6 +89,10 @@ public class ArticleLikeService {
     }
 
     public PageResponseWithExtraData<MemberIdResponse> getLikedArticles(Long memberId, PageServiceRequest request) {
+        if (request.isSliceMode()) {
+            return getLikedArticleSlice(memberId, request);
+        }
+
         Page<ArticleLike> pageArticleLikes;
         try {
             pageArticleLikes = articleLikeQueryRepository.findLikedArticles(memberId, request.toPageable());
@@ -78,16 +105,44 @@ public class ArticleLikeService {
         return PageResponseWithExtraData.of(pageArticleLikes, new MemberIdResponse(memberId), articles);
     }
 
-    private ArticleAndMember getArticleAndMember(Long articleId, Long memberId) {
-        Article article = articleRepository.findById(articleId)
-                .orElseThrow(() -> new NotFoundException(ARTICLE_NOT_FOUND));
+    /**
+     * 좋아요를 누른 회원 목록을 COUNT 쿼리 없이 조회한다. 전체 건수는 카운터 값으로 응답한다.
+     */
+    private PageResponseWithExtraData<ArticleIdResponse> getLikedMemberSlice(Long articleId, PageServiceRequest request) {
+        Slice<ArticleLike> sliceArticleLikes;
+        try {
+            sliceArticleLikes = articleLikeQueryRepository.findLikedMemberSlice(articleId, request.toPageable());
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
+
+        List<MemberResponse> members = CommonUtil.mapperToList(sliceArticleLikes.getContent(), ArticleLike::getMember, MemberResponse::of);
+
+        return PageResponseWithExtraData.ofSlice(sliceArticleLikes, new ArticleIdResponse(articleId), members, articleCountService.getLikedMemberCount(articleId));
+    }
+
+    /**
+     * 좋아요를 누른 게시글 목록을 COUNT 쿼리 없이 조회한다. 전체 건수는 카운터 값으로 응답한다.
+     */
+    private PageResponseWithExtraData<MemberIdResponse> getLikedArticleSlice(Long memberId, PageServiceRequest request) {
+        Slice<ArticleLike> sliceArticleLikes;
+        try {
+            sliceArticleLikes = articleLikeQueryRepository.findLikedArticleSlice(memberId, request.toPageable());
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
 
-        Member member = memberService.getMemberById(memberId);
+        List<ArticleResponse> articles = CommonUtil.mapperToList(sliceArticleLikes.getContent(), ArticleLike::getArticle, ArticleResponse::of);
 
-        return new ArticleAndMember(article, member);
+        return PageResponseWithExtraData.ofSlice(sliceArticleLikes, new MemberIdResponse(memberId), articles, articleCountService.getLikedArticleCount(memberId));
     }
 
-    private record ArticleAndMember(Article article, Member member) {
+    private void validateArticleAndMember(Long articleId, Long memberId) {
+        if (!articleRepository.existsById(articleId)) {
+            throw new NotFoundException(ARTICLE_NOT_FOUND);
+        }
+
+        memberService.getMemberById(memberId);
     }
 
 }
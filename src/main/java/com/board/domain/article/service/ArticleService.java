@@ -3,7 +3,9 @@ package com.board.domain.article.service;
 import com.board.domain.article.dto.request.ArticleServiceRequest;
 import com.board.domain.article.dto.response.ArticleDetailResponse;
 import com.board.domain.article.dto.response.ArticleResponse;
+import com.board.domain.article.dto.response.ArticleSummaryResponse;
 import com.board.domain.article.entity.Article;
+import com.board.domain.article.repository.ArticleLikeQueryRepository;
 import com.board.domain.article.repository.ArticleQueryRepository;
 import com.board.domain.article.repository.ArticleRepository;
 import com.board.domain.member.entity.Member;
@@ -14,11 +16,16 @@ import com.board.global.common.exception.NotFoundException;
 import com.board.global.common.exception.UnprocessableEntityException;
 import com.board.global.common.util.CommonUtil;
 import com.board.global.infrastructure.redis.Redis;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static com.board.global.common.enumeration.ErrorCode.ARTICLE_NOT_FOUND;
@@ -30,12 +37,24 @@ public class ArticleService {
 
     public static final String PREFIX_REDIS_KEY_ARTICLE_VIEW = "articleView:";
     public static final long ARTICLE_VIEW_INCREMENT_INTERVAL_IN_MILLIS = 60 * 60 * 1000;
+    private static final long RECENT_VIEW_CACHE_TTL_IN_MILLIS = 60 * 1000;
+    private static final long RECENT_VIEW_CACHE_MAXIMUM_SIZE = 10_000;
 
     private final Redis redis;
     private final MemberService memberService;
+    private final ArticleViewCountService articleViewCountService;
+    private final ArticleCountService articleCountService;
+    private final ArticleCacheService articleCacheService;
 
     private final ArticleRepository articleRepository;
     private final ArticleQueryRepository articleQueryRepository;
+    private final ArticleLikeQueryRepository articleLikeQueryRepository;
+
+    // 이 노드에서 최근에 조회수 증가 여부를 판단한 키 (반복 조회 시 레디스를 거치지 않기 위함)
+    private final Cache<String, Boolean> recentViews = Caffeine.newBuilder()
+            .expireAfterWrite(RECENT_VIEW_CACHE_TTL_IN_MILLIS, TimeUnit.MILLISECONDS)
+            .maximumSize(RECENT_VIEW_CACHE_MAXIMUM_SIZE)
+            .build();
 
     /**
      * 게시글을 등록한다.
@@ -44,18 +63,19 @@ public class ArticleService {
     public ArticleResponse createArticle(ArticleServiceRequest request, Long memberId) {
         Member member = memberService.getMemberById(memberId);
         Article article = articleRepository.save(request.toEntity(member));
+        articleCountService.increaseActiveArticleCount();
         return ArticleResponse.of(article);
     }
 
     /**
      * 게시글 1건을 조회한다.
      */
-    public ArticleDetailResponse getArticle(Long id, String clientIp) {
-        Article article = findValidArticle(id);
+    public ArticleDetailResponse getArticle(Long id, String clientIp, Long memberId) {
+        ArticleDetailResponse article = articleCacheService.getArticleDetail(id, () -> ArticleDetailResponse.of(findValidArticle(id)));
         if (isIncrementViewCount(id, clientIp)) {
-            article.incrementViewCount();
+            articleViewCountService.increment(id);
         }
-        return ArticleDetailResponse.of(article);
+        return article.overlay(articleViewCountService.getViewCount(article), getLikedArticleIds(memberId, List.of(id)).contains(id));
     }
 
     /**
@@ -66,6 +86,7 @@ public class ArticleService {
         Article article = findValidArticle(request.getId());
         article.validateWriter(memberId);
         article.update(request.getTitle(), request.getContent());
+        articleCacheService.evictAfterCommit(article.getId());
         return ArticleResponse.of(article);
     }
 
@@ -77,20 +98,84 @@ public class ArticleService {
         Article article = findArticle(id);
         article.validateWriter(memberId);
         article.delete();
+        articleCountService.decreaseActiveArticleCount();
+        articleCacheService.evictAfterCommit(id);
     }
 
     /**
-     * 게시글 리스트를 조회한다.
+     * 게시글 리스트를 조회한다. (includeContent가 false면 내용을 제외하고 조회)
      */
-    public PageResponse getArticleList(PageServiceRequest request) {
-        Page<Article> pageArticles;
+    public PageResponse getArticleList(PageServiceRequest request, boolean includeContent, Long memberId) {
+        if (request.isCursorMode()) {
+            return getArticleListByCursor(request, includeContent, memberId);
+        }
+        if (request.isSliceMode()) {
+            return getArticleListBySlice(request, includeContent, memberId);
+        }
+
+        Page<ArticleSummaryResponse> pageArticles;
         try {
-            pageArticles = articleQueryRepository.findActiveArticles(request.toPageable());
+            pageArticles = articleQueryRepository.findActiveArticles(request.toPageable(), includeContent);
         } catch (Exception e) {
             throw new UnprocessableEntityException(e.getMessage());
         }
 
-        return PageResponse.of(pageArticles, CommonUtil.mapperToList(pageArticles.getContent(), ArticleDetailResponse::of));
+        return PageResponse.of(pageArticles,
+                overlay(pageArticles.getContent(), memberId),
+                articleQueryRepository.createNextCursor(pageArticles));
+    }
+
+    /**
+     * 커서 이후의 게시글 리스트를 조회한다. (무한 스크롤)
+     */
+    private PageResponse getArticleListByCursor(PageServiceRequest request, boolean includeContent, Long memberId) {
+        Slice<ArticleSummaryResponse> sliceArticles;
+        try {
+            sliceArticles = articleQueryRepository.findActiveArticlesByCursor(request.toPageCursor(), request.toPageable(), includeContent);
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
+
+        return PageResponse.ofCursor(sliceArticles,
+                overlay(sliceArticles.getContent(), memberId),
+                articleQueryRepository.createNextCursor(sliceArticles));
+    }
+
+    /**
+     * 게시글 리스트를 COUNT 쿼리 없이 조회한다. 전체 건수는 카운터 값으로 응답한다.
+     */
+    private PageResponse getArticleListBySlice(PageServiceRequest request, boolean includeContent, Long memberId) {
+        Slice<ArticleSummaryResponse> sliceArticles;
+        try {
+            sliceArticles = articleQueryRepository.findActiveArticleSlice(request.toPageable(), includeContent);
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
+
+        return PageResponse.ofSlice(sliceArticles,
+                overlay(sliceArticles.getContent(), memberId),
+                articleCountService.getActiveArticleCount(),
+                articleQueryRepository.createNextCursor(sliceArticles));
+    }
+
+    /**
+     * 조회수와 좋아요 여부를 채운다. 좋아요 여부는 페이지의 게시글 ID로 1번만 조회한다.
+     */
+    private List<ArticleSummaryResponse> overlay(List<ArticleSummaryResponse> articles, Long memberId) {
+        Set<Long> likedArticleIds = getLikedArticleIds(memberId, CommonUtil.mapperToList(articles, ArticleSummaryResponse::id));
+
+        return CommonUtil.mapperToList(articles, article -> article.overlay(
+                articleViewCountService.getPendingViewCount(article.id()),
+                likedArticleIds.contains(article.id())
+        ));
+    }
+
+    private Set<Long> getLikedArticleIds(Long memberId, List<Long> articleIds) {
+        try {
+            return articleLikeQueryRepository.findLikedArticleIds(memberId, articleIds);
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
     }
 
     private Article findValidArticle(Long id) {
@@ -103,18 +188,20 @@ public class ArticleService {
                 .orElseThrow(() -> new NotFoundException(ARTICLE_NOT_FOUND));
     }
 
+    /**
+     * 같은 아이피로 일정 시간 내에 다시 조회한 경우 조회수를 증가시키지 않는다. <br />
+     * 레디스 key가 없을 때만 등록(SET NX PX)하여 확인과 등록을 1회 왕복으로 처리하고, 동시 조회 시에도 한 번만 증가한다.
+     */
     private boolean isIncrementViewCount(Long id, String clientIp) {
         String key = PREFIX_REDIS_KEY_ARTICLE_VIEW + id + ":" + clientIp;
-        long currentTime = System.currentTimeMillis();
 
-        String lastViewTimeStr = redis.get(key);
-        long lastViewTime = lastViewTimeStr != null ? Long.parseLong(lastViewTimeStr) : 0;
-
-        if (lastViewTime == 0 || (currentTime - lastViewTime) >= ARTICLE_VIEW_INCREMENT_INTERVAL_IN_MILLIS) {
-            redis.set(key, String.valueOf(currentTime), ARTICLE_VIEW_INCREMENT_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
-            return true;
+        if (recentViews.getIfPresent(key) != null) {
+            return false;
         }
-        return false;
+
+        boolean firstView = redis.setLongIfAbsent(key, System.currentTimeMillis(), ARTICLE_VIEW_INCREMENT_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
+        recentViews.put(key, Boolean.TRUE);
+        return firstView;
     }
 
 }
@@ -0,0 +1,121 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.dto.response.ArticleDetailResponse;
+import com.board.domain.article.repository.ArticleViewCountRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 누적했다가 주기적으로 DB에 일괄 반영한다. (write-behind) <br />
+ * 조회 요청마다 게시글 row를 수정하지 않으므로 인기 게시글에 row lock이 몰리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArticleViewCountService {
+
+    private final ArticleViewCountRepository articleViewCountRepository;
+    private final ArticleCacheService articleCacheService;
+
+    private final ConcurrentMap<Long, LongAdder> pendingViewCounts = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글 조회수를 1 증가시킨다. (DB 반영은 flush 시점)
+     */
+    public void increment(Long articleId) {
+        add(articleId, 1L);
+    }
+
+    /**
+     * 게시글 상세에 응답할 조회수(DB에 반영된 조회수 + 아직 반영되지 않은 조회수)를 리턴한다. <br />
+     * 캐시된 응답의 조회수는 캐시된 시점의 값이므로 DB에 반영된 조회수는 따로 조회한다.
+     */
+    public long getViewCount(ArticleDetailResponse article) {
+        long flushedViewCount = articleCacheService.getViewCount(article, () -> articleViewCountRepository.findViewCount(article.id()));
+        return flushedViewCount + getPendingViewCount(article.id());
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수를 리턴한다.
+     */
+    public long getPendingViewCount(Long articleId) {
+        LongAdder adder = pendingViewCounts.get(articleId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영한다.
+     */
+    @Scheduled(fixedDelayString = "${article.view-count.flush-interval-millis:5000}")
+    public void flush() {
+        Map<Long, Long> viewCounts = drain();
+        if (viewCounts.isEmpty()) {
+            return;
+        }
+
+        try {
+            articleViewCountRepository.incrementViewCounts(viewCounts);
+        } catch (Exception e) {
+            log.error("게시글 조회수 반영에 실패했습니다. 다음 주기에 다시 시도합니다. [errorMessage] : {}", e.getMessage());
+            viewCounts.forEach(this::restore);
+            return;
+        }
+
+        // 캐시된 게시글 상세는 무효화하지 않고, 조회 시점에 덮어쓰는 조회수 카운터만 증가
+        articleCacheService.incrementViewCounts(viewCounts);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 조회수를 반영한다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        // 게시글 ID 순으로 정렬하여 여러 노드가 동시에 반영해도 lock 순서가 같도록 한다.
+        Map<Long, Long> viewCounts = new TreeMap<>();
+
+        pendingViewCounts.forEach((articleId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                viewCounts.put(articleId, count);
+                return;
+            }
+
+            // 조회가 없었던 게시글은 메모리에서 제거한다.
+            // 증가와 같은 bin lock 안에서 다시 확인하므로, 제거된 adder에 조회수가 증가되는 경우가 없다.
+            pendingViewCounts.computeIfPresent(articleId, (id, current) -> current.sum() == 0 ? null : current);
+        });
+
+        return viewCounts;
+    }
+
+    private void restore(Long articleId, Long count) {
+        add(articleId, count);
+    }
+
+    /**
+     * 맵의 원자적 연산 안에서 증가시킨다. (adder를 꺼낸 후에 증가시키면 그 사이에 제거된 adder에 누적될 수 있다.)
+     */
+    private void add(Long articleId, long count) {
+        pendingViewCounts.compute(articleId, (id, adder) -> {
+            if (adder == null) {
+                adder = new LongAdder();
+            }
+            adder.add(count);
+            return adder;
+        });
+    }
+
+}
@@ -7,46 +7,65 @@ import com.board.domain.member.entity.Member;
 import com.board.domain.member.service.MemberService;
 import com.board.global.common.exception.NotFoundException;
 import com.board.global.common.exception.UnauthorizedException;
+import com.board.global.common.util.HashUtil;
 import com.board.global.event.SignupCompletionMailEvent;
 import com.board.global.infrastructure.redis.Redis;
+import com.board.global.infrastructure.redis.RefreshTokenRotation;
 import com.board.global.security.JwtException;
 import com.board.global.security.JwtToken;
 import com.board.global.security.JwtTokenProvider;
+import com.board.global.security.PasswordHasher;
+import com.board.global.security.RevokedTokenRegistry;
 import com.board.global.security.SecurityUser;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StopWatch;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
 
 import static com.board.global.common.enumeration.ErrorCode.INVALID_CREDENTIALS;
+import static com.board.global.security.JwtErrorCode.INVALID;
 import static com.board.global.security.JwtErrorCode.INVALID_TOKEN_USER;
+import static com.board.global.security.JwtErrorCode.REUSED_REFRESH_TOKEN;
 
+/**
+ * 비밀번호 해시/검증 중에 DB 커넥션을 점유하지 않도록 트랜잭션을 시작하지 않는다. <br />
+ * 회원 조회/등록은 각 리포지토리 메서드의 트랜잭션으로 처리된다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
     private final MemberService memberService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuthenticationProvider authenticationProvider;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final Redis redis;
+    private final RevokedTokenRegistry revokedTokenRegistry;
     private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${auth.login.slow-threshold-millis:500}")
+    private long loginSlowThresholdMillis;
+
     /**
-     * 회원 가입
+     * 회원 가입 <br />
+     * 비밀번호는 회원을 등록하기 전에 전용 스레드 풀에서 해시한다.
      */
-    @Transactional
     public void signup(AuthServiceRequest request) {
         memberService.validateAlreadyJoinedMember(request.getEmail());
 
+        Member.validatePassword(request.getPassword());
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+
         MemberServiceRequest memberRequest = MemberServiceRequest.of(
                 request.getEmail(),
-                request.getPassword());
+                encodedPassword);
 
         memberService.createMember(memberRequest);
 
@@ -54,23 +73,38 @@ public class AuthService {
     }
 
     /**
-     * 로그인
+     * 로그인 <br />
+     * 조회한 회원으로 인증 객체를 직접 생성하므로 DB는 1번만 조회하며, 단계별 소요 시간을 로그로 남긴다.
      */
     public JwtToken login(AuthServiceRequest request) {
+        StopWatch stopWatch = new StopWatch("login");
+
         // 회원 인증 : 아이디에 해당하는 회원이 존재하는지 체크
+        stopWatch.start("memberLookup");
         Member member = getValidMemberForToken(request.getEmail());
+        stopWatch.stop();
 
         // 회원 인증 : 비밀번호가 일치하는지 체크
-        if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
+        stopWatch.start("passwordMatch");
+        boolean matched = passwordHasher.matches(request.getPassword(), member.getPassword());
+        stopWatch.stop();
+
+        if (!matched) {
+            logLoginTimings(stopWatch);
             throw new UnauthorizedException(INVALID_CREDENTIALS);
         }
 
         // JWT 생성
+        stopWatch.start("tokenGeneration");
         JwtToken jwtToken = generateToken(member);
+        stopWatch.stop();
 
         // 리프레쉬 토큰을 레디스에 저장
+        stopWatch.start("refreshTokenStore");
         redis.setRefreshToken(member.getId(), jwtToken.getRefreshToken());
+        stopWatch.stop();
 
+        logLoginTimings(stopWatch);
         return jwtToken;
     }
 
@@ -93,14 +127,20 @@ public class AuthService {
         // 회원 정보 조회
         Member member = getValidMemberForToken(memberId);
 
-        // 리프레쉬 토큰 비교
-        redis.compareRefreshToken(memberId, refreshToken);
-
         // JWT 생성
         JwtToken jwtToken = generateToken(member);
 
-        // 리프레쉬 토큰을 레디스에 저장
-        redis.setRefreshToken(memberId, jwtToken.getRefreshToken());
+        // 리프레쉬 토큰 비교 및 교체 (원자적으로 처리)
+        RefreshTokenRotation rotation = redis.rotateRefreshToken(memberId, refreshToken, jwtToken.getRefreshToken());
+
+        if (rotation == RefreshTokenRotation.REUSED) {
+            log.warn("이미 사용된 리프레쉬 토큰으로 재발행을 요청하여 토큰 패밀리를 폐기했습니다. [memberId] : {}", memberId);
+            throw new JwtException(REUSED_REFRESH_TOKEN);
+        }
+
+        if (rotation != RefreshTokenRotation.ROTATED) {
+            throw new JwtException(INVALID);
+        }
 
         return jwtToken;
     }
@@ -109,38 +149,54 @@ public class AuthService {
      * 로그아웃
      */
     public void logout(String accessToken) {
-        // 액세스 토큰 JWT 유효성 체크
+        // 액세스 토큰 JWT 유효성 체크 및 클레임 정보를 추출하여 인증 객체 생성 (토큰은 1번만 파싱)
+        Authentication authentication;
         try {
-            jwtTokenProvider.validateAccessToken(accessToken);
+            authentication = jwtTokenProvider.authenticateAccessToken(accessToken).authentication();
         } catch (JwtException e) {
             throw new JwtException(e.getJwtErrorCode());
         }
 
-        // 액세스 토큰의 클레임 정보를 추출하여 인증 객체 생성
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
-
         // 인증 객체에서 회원 정보 추출
         SecurityUser member = (SecurityUser) authentication.getPrincipal();
 
         // 해당 회원의 리프레쉬 토큰을 레디스에서 조회 및 삭제
         redis.deleteRefreshToken(member.getMemberId());
 
-        // 액세스 토큰을 레디스에 저장, 블랙 리스트 처리
-        redis.logoutAccessToken(accessToken);
+        // 액세스 토큰을 블랙 리스트에 등록하고 모든 노드의 블룸 필터, 인증 캐시에 반영
+        revokedTokenRegistry.revoke(HashUtil.sha256(accessToken));
     }
 
     /**
-     * 인증 정보를 담고 있는 JWT를 생성한다.
+     * 인증 정보를 담고 있는 JWT를 생성한다. <br />
+     * 이미 조회한 회원으로 인증 객체를 생성하므로 회원을 다시 조회하지 않는다.
      */
     private JwtToken generateToken(Member member) {
-        // UsernamePasswordAuthenticationToken 초기 인증 객체 생성 (권한 정보 없음)
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(member.getEmail(), null);
-
-        // SecurityAuthenticationProvider에 인증을 요청
-        Authentication authenticate = authenticationProvider.authenticate(authenticationToken);
+        SecurityUser securityUser = new SecurityUser(member);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(securityUser, null, securityUser.getAuthorities());
 
         // 토큰 생성
-        return jwtTokenProvider.generateToken(authenticate);
+        return jwtTokenProvider.generateToken(authentication);
+    }
+
+    /**
+     * 로그인 단계별 소요 시간을 기록한다. 기준 시간을 넘으면 INFO, 아니면 DEBUG 레벨로 남긴다.
+     */
+    private void logLoginTimings(StopWatch stopWatch) {
+        long totalMillis = stopWatch.getTotalTimeMillis();
+        if (totalMillis < loginSlowThresholdMillis && !log.isDebugEnabled()) {
+            return;
+        }
+
+        String timings = Arrays.stream(stopWatch.getTaskInfo())
+                .map(task -> task.getTaskName() + "=" + task.getTimeMillis() + "ms")
+                .collect(Collectors.joining(", "));
+
+        if (totalMillis >= loginSlowThresholdMillis) {
+            log.info("로그인 소요 시간 {}ms ({})", totalMillis, timings);
+        } else {
+            log.debug("로그인 소요 시간 {}ms ({})", totalMillis, timings);
+        }
     }
 
     private Member getValidMemberForToken(Long memberId) {
@@ -0,0 +1,49 @@
+package com.board.domain.comment.controller;
+
+import com.board.domain.comment.dto.response.CommentTreeResponse;
+import com.board.domain.comment.service.CommentExportService;
+import com.board.domain.comment.service.CommentService;
+import com.board.global.common.dto.ApiResponse;
+import com.board.global.common.dto.page.PageRequest;
+import com.board.global.common.dto.page.PageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+
+/**
+ * 게시글 하위 리소스로서의 댓글 API
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/articles")
+public class ArticleCommentController {
+
+    private final CommentService commentService;
+    private final CommentExportService commentExportService;
+
+    @GetMapping("/{id}/comments")
+    public ApiResponse<List<CommentTreeResponse>> getCommentTree(@PathVariable Long id) {
+        return ApiResponse.ok(commentService.getCommentTree(id));
+    }
+
+    @GetMapping("/{id}/comments/roots")
+    public ApiResponse<PageResponse> getRootComments(@PathVariable Long id, PageRequest request,
+                                                     @RequestParam(defaultValue = "3") int previewSize) {
+        return ApiResponse.ok(commentService.getRootComments(id, request.toServiceRequest(), previewSize));
+    }
+
+    /**
+     * 댓글 스레드 전체를 깊이 우선 순서의 NDJSON으로 스트리밍한다.
+     */
+    @GetMapping(value = "/{id}/comments/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportComments(@PathVariable Long id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(commentExportService.exportCommentThread(id));
+    }
+
+}
@@ -4,6 +4,8 @@ import com.board.domain.comment.dto.request.CommentRequest;
 import com.board.domain.comment.dto.response.CommentResponse;
 import com.board.domain.comment.service.CommentService;
 import com.board.global.common.dto.ApiResponse;
+import com.board.global.common.dto.page.PageRequest;
+import com.board.global.common.dto.page.PageResponse;
 import com.board.global.common.validation.OnCreate;
 import com.board.global.common.validation.OnUpdate;
 import com.board.global.security.SecurityUser;
@@ -30,6 +32,11 @@ public class CommentController {
         return ApiResponse.ok(commentService.getComment(id));
     }
 
+    @GetMapping("/{id}/children")
+    public ApiResponse<PageResponse> getChildComments(@PathVariable Long id, PageRequest request) {
+        return ApiResponse.ok(commentService.getChildComments(id, request.toServiceRequest()));
+    }
+
     @PutMapping("/{id}")
     public ApiResponse<Void> updateComment(@PathVariable Long id, @Validated(OnUpdate.class) @RequestBody CommentRequest request, @AuthenticationPrincipal SecurityUser securityUser) {
         commentService.updateComment(request.toServiceRequest(id), securityUser.getMemberId());
@@ -42,4 +49,16 @@ public class CommentController {
         return ApiResponse.ok();
     }
 
+    @DeleteMapping("/{id}/subtree")
+    public ApiResponse<Void> deleteCommentSubtree(@PathVariable Long id, @AuthenticationPrincipal SecurityUser securityUser) {
+        commentService.deleteCommentSubtree(id, securityUser.getMemberId());
+        return ApiResponse.ok();
+    }
+
+    @PostMapping("/{id}/subtree/restore")
+    public ApiResponse<Void> restoreCommentSubtree(@PathVariable Long id, @AuthenticationPrincipal SecurityUser securityUser) {
+        commentService.restoreCommentSubtree(id, securityUser.getMemberId());
+        return ApiResponse.ok();
+    }
+
 }
@@ -1,7 +1,6 @@
 package com.board.domain.comment.dto.request;
 
 import com.board.domain.comment.entity.Comment;
-import com.board.domain.comment.entity.CommentHierarchy;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -33,12 +32,4 @@ public class CommentHierarchyServiceRequest {
                 .build();
     }
 
-    public CommentHierarchy toEntity(Comment ancestorComment, int depth) {
-        return CommentHierarchy.builder()
-                .ancestor(ancestorComment)
-                .descendant(comment)
-                .depth(depth)
-                .build();
-    }
-
 }
@@ -0,0 +1,37 @@
+package com.board.domain.comment.dto.response;
+
+import com.board.domain.member.dto.response.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 스레드 내보내기 응답 (NDJSON 1줄) <br />
+ * 깊이 우선 순서로 내보내므로 부모 댓글 ID와 깊이로 트리를 복원할 수 있다.
+ */
+public record CommentExportResponse(
+        Long id,
+        Long parentId,
+        int depth,
+        String content,
+        boolean deleted,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdDateTime,
+        MemberResponse member
+) {
+    /**
+     * 삭제된 댓글은 다른 응답과 동일하게 내용과 작성자 없이 자리만 남긴다.
+     */
+    public static CommentExportResponse of(Long id, Long parentId, int depth, String content, boolean deleted,
+                                           LocalDateTime createdDateTime, Long memberId, String email) {
+        return new CommentExportResponse(
+                id,
+                parentId,
+                depth,
+                deleted ? null : content,
+                deleted,
+                createdDateTime,
+                deleted ? null : new MemberResponse(memberId, email)
+        );
+    }
+}
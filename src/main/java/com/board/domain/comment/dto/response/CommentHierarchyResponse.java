@@ -0,0 +1,11 @@
+package com.board.domain.comment.dto.response;
+
+/**
+ * 댓글 계층 정보 (엔티티 없이 ID와 깊이만 조회)
+ */
+public record CommentHierarchyResponse(
+        Long ancestorId,
+        Long descendantId,
+        int depth
+) {
+}
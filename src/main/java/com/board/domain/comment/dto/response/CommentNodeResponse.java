@@ -0,0 +1,45 @@
+package com.board.domain.comment.dto.response;
+
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.member.dto.response.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 페이지 단위로 펼쳐보는 댓글 응답 <br />
+ * 자식 댓글 수로 더 펼쳐볼 댓글이 있는지 판단하며, 미리보기 자식 댓글은 루트 댓글 조회에서만 응답한다.
+ */
+public record CommentNodeResponse(
+        Long id,
+        String content,
+        boolean deleted,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdDateTime,
+        MemberResponse member,
+        long childCount,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<CommentNodeResponse> children
+) {
+    public static CommentNodeResponse of(Comment comment, long childCount) {
+        return of(comment, childCount, null);
+    }
+
+    /**
+     * 삭제된 댓글은 하위 댓글을 유지하기 위해 내용과 작성자 없이 자리만 남긴다.
+     */
+    public static CommentNodeResponse of(Comment comment, long childCount, List<CommentNodeResponse> children) {
+        boolean deleted = Boolean.TRUE.equals(comment.getDeleted());
+        return new CommentNodeResponse(
+                comment.getId(),
+                deleted ? null : comment.getContent(),
+                deleted,
+                comment.getCreatedDateTime(),
+                deleted ? null : MemberResponse.of(comment.getMember()),
+                childCount,
+                children
+        );
+    }
+}
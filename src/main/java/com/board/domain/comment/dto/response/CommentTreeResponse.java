@@ -0,0 +1,35 @@
+package com.board.domain.comment.dto.response;
+
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.member.dto.response.MemberResponse;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 댓글 트리 응답 <br />
+ * 삭제된 댓글은 하위 댓글을 유지하기 위해 내용과 작성자 없이 자리만 남긴다.
+ */
+public record CommentTreeResponse(
+        Long id,
+        String content,
+        boolean deleted,
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        LocalDateTime createdDateTime,
+        MemberResponse member,
+        List<CommentTreeResponse> children
+) {
+    public static CommentTreeResponse of(Comment comment) {
+        boolean deleted = Boolean.TRUE.equals(comment.getDeleted());
+        return new CommentTreeResponse(
+                comment.getId(),
+                deleted ? null : comment.getContent(),
+                deleted,
+                comment.getCreatedDateTime(),
+                deleted ? null : MemberResponse.of(comment.getMember()),
+                new ArrayList<>()
+        );
+    }
+}
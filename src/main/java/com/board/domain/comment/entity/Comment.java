@@ -36,6 +36,9 @@ public class Comment extends BaseEntity {
 
     private Boolean deleted;
 
+    // 하위 댓글까지 일괄 삭제된 경우 일괄 삭제를 요청한 댓글 ID (일괄 복구 시 이 값이 같은 댓글만 복구한다.)
+    private Long deletedBySubtreeOf;
+
     @Builder
     public Comment(Long id, Article article, Member member, String content, Boolean deleted) {
         this.id = id;
@@ -68,6 +71,16 @@ public class Comment extends BaseEntity {
         }
     }
 
+    /**
+     * 하위 댓글까지 일괄 처리하는 경우 댓글 작성자 또는 게시글 작성자만 가능하다.
+     */
+    public void validateModerator(Long requestMemberId) {
+        if (!this.getMember().getId().equals(requestMemberId)
+                && !this.article.getMember().getId().equals(requestMemberId)) {
+            throw new ForbiddenException(INVALID_MODERATOR);
+        }
+    }
+
     public void update(String content) {
         this.content = validateContent(content);
     }
@@ -10,21 +10,29 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"ancestor_id", "descendant_id"}))
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"ancestor_id", "descendant_id"}),
+        indexes = @Index(name = "idx_comment_hierarchy_descendant_depth", columnList = "descendant_id, depth"))
 public class CommentHierarchy extends BaseEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "ancestor_id")
     private Comment ancestor;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "descendant_id")
     private Comment descendant;
 
+    // 계층 조회 시 댓글을 로딩하지 않고 ID만 사용하기 위한 읽기 전용 컬럼 (등록/수정은 연관관계로 처리)
+    @Column(name = "ancestor_id", insertable = false, updatable = false)
+    private Long ancestorId;
+
+    @Column(name = "descendant_id", insertable = false, updatable = false)
+    private Long descendantId;
+
     private int depth;
 
     @Builder
@@ -32,6 +40,8 @@ public class CommentHierarchy extends BaseEntity {
         this.id = id;
         this.ancestor = ancestor;
         this.descendant = descendant;
+        this.ancestorId = (ancestor != null) ? ancestor.getId() : null;
+        this.descendantId = (descendant != null) ? descendant.getId() : null;
         this.depth = depth;
     }
 
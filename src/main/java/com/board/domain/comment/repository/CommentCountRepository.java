@@ -0,0 +1,45 @@
+package com.board.domain.comment.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 게시글의 댓글 수(article.comment_count)를 엔티티를 조회하지 않고 증감/보정한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentCountRepository {
+
+    private static final String INCREMENT_COMMENT_COUNT_SQL = "UPDATE article SET comment_count = comment_count + ? WHERE id = ? AND comment_count + ? >= 0";
+    private static final String SELECT_MAX_ARTICLE_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM article";
+    // 삭제되지 않은 댓글 수와 다른 게시글만 보정
+    private static final String RECONCILE_COMMENT_COUNT_SQL = """
+            UPDATE article a
+            SET comment_count = (SELECT COUNT(*) FROM comment c WHERE c.article_id = a.id AND c.deleted = false)
+            WHERE a.id BETWEEN ? AND ?
+            AND a.comment_count <> (SELECT COUNT(*) FROM comment c WHERE c.article_id = a.id AND c.deleted = false)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글의 댓글 수를 delta만큼 증감한다. (row 단위 원자적 증감, 0 미만으로 내려가지 않음)
+     */
+    public void incrementCommentCount(Long articleId, int delta) {
+        jdbcTemplate.update(INCREMENT_COMMENT_COUNT_SQL, delta, articleId, delta);
+    }
+
+    public long findMaxArticleId() {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ARTICLE_ID_SQL, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * ID 범위 내 게시글의 댓글 수를 실제 댓글 수로 보정하고, 보정된 게시글 수를 리턴한다.
+     */
+    public int reconcileCommentCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE_COMMENT_COUNT_SQL, fromId, toId);
+    }
+
+}
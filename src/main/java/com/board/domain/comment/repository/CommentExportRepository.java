@@ -0,0 +1,77 @@
+package com.board.domain.comment.repository;
+
+import com.board.domain.comment.dto.response.CommentExportResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.util.function.Consumer;
+
+/**
+ * 게시글의 댓글 스레드 전체를 서버 측 커서로 1건씩 읽어서 넘긴다. (결과를 메모리에 모으지 않음) <br />
+ * MySQL은 JDBC URL에 useCursorFetch=true 옵션이 있어야 fetch size 단위로 나눠서 읽는다.
+ */
+@Repository
+public class CommentExportRepository {
+
+    /*
+     * 루트 댓글부터 계층 테이블(depth = 1)을 따라 내려가며 루트 → 자신까지의 ID를 고정 길이로 이어 붙인 경로를 만들고,
+     * 경로 순으로 정렬하면 깊이 우선 순서(형제 댓글은 등록순)가 된다. (경로 최대 길이 2000 = 최대 깊이 100)
+     * 루트 댓글의 parent_id는 ID 컬럼과 같은 타입의 0으로 두고, 조회 시 null로 변환한다.
+     */
+    private static final String SELECT_THREAD_SQL = """
+            WITH RECURSIVE thread (id, parent_id, depth, path) AS (
+                SELECT c.id, c.id - c.id, 0, CAST(LPAD(c.id, 20, '0') AS CHAR(2000))
+                FROM comment c
+                WHERE c.article_id = ?
+                AND NOT EXISTS (SELECT 1 FROM comment_hierarchy p WHERE p.descendant_id = c.id AND p.depth = 1)
+                UNION ALL
+                SELECT ch.descendant_id, t.id, t.depth + 1, CONCAT(RTRIM(t.path), LPAD(ch.descendant_id, 20, '0'))
+                FROM thread t
+                INNER JOIN comment_hierarchy ch ON ch.ancestor_id = t.id AND ch.depth = 1
+            )
+            SELECT t.id, t.parent_id, t.depth, c.content, c.deleted, c.created_date_time, m.id AS member_id, m.email
+            FROM thread t
+            INNER JOIN comment c ON c.id = t.id
+            INNER JOIN member m ON m.id = c.member_id
+            ORDER BY t.path
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public CommentExportRepository(JdbcTemplate jdbcTemplate,
+                                   @Value("${comment.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * 댓글 스레드를 깊이 우선 순서로 읽으면서 1건씩 consumer에 넘긴다. (forward-only, read-only 커서)
+     */
+    public void streamThread(Long articleId, Consumer<CommentExportResponse> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_THREAD_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            ps.setLong(1, articleId);
+            return ps;
+        }, rs -> {
+            long parentId = rs.getLong("parent_id");
+            Timestamp createdDateTime = rs.getTimestamp("created_date_time");
+            consumer.accept(CommentExportResponse.of(
+                    rs.getLong("id"),
+                    parentId != 0 ? parentId : null,
+                    rs.getInt("depth"),
+                    rs.getString("content"),
+                    rs.getBoolean("deleted"),
+                    createdDateTime != null ? createdDateTime.toLocalDateTime() : null,
+                    rs.getLong("member_id"),
+                    rs.getString("email")
+            ));
+        });
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.board.domain.comment.repository;
+
+import com.board.domain.comment.dto.response.CommentHierarchyResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 엔티티를 조회하지 않고 ID만으로 댓글 계층 데이터를 등록한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentHierarchyJdbcRepository {
+
+    private static final String INSERT_SELF_SQL = """
+            INSERT INTO comment_hierarchy (ancestor_id, descendant_id, depth, created_date_time, modified_date_time)
+            VALUES (?, ?, 0, ?, ?)
+            """;
+    // 자기 자신(depth 0)과 부모 댓글의 모든 조상(depth + 1)을 1개의 쿼리로 등록
+    private static final String INSERT_WITH_ANCESTORS_SQL = """
+            INSERT INTO comment_hierarchy (ancestor_id, descendant_id, depth, created_date_time, modified_date_time)
+            SELECT ?, ?, 0, ?, ?
+            UNION ALL
+            SELECT ch.ancestor_id, ?, ch.depth + 1, ?, ?
+            FROM comment_hierarchy ch
+            WHERE ch.descendant_id = ?
+            """;
+    // 부모 댓글별로 자식 댓글을 등록순으로 limit 건까지만 조회 (부모 댓글 수와 관계없이 1개의 쿼리)
+    private static final String SELECT_FIRST_CHILDREN_SQL = """
+            SELECT t.ancestor_id, t.descendant_id
+            FROM (
+                SELECT ch.ancestor_id, ch.descendant_id,
+                       ROW_NUMBER() OVER (PARTITION BY ch.ancestor_id ORDER BY ch.descendant_id) AS rn
+                FROM comment_hierarchy ch
+                WHERE ch.ancestor_id IN (:parentIds)
+                AND ch.depth = 1
+            ) t
+            WHERE t.rn <= :limit
+            ORDER BY t.ancestor_id, t.descendant_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 루트 댓글의 계층 데이터(자기 자신)를 등록한다.
+     */
+    public void insertSelf(Long commentId) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_SELF_SQL, commentId, commentId, now, now);
+    }
+
+    /**
+     * 대댓글의 계층 데이터를 등록한다. 댓글의 깊이와 관계없이 1번의 왕복으로 처리하며, 등록된 행 수를 리턴한다.
+     */
+    public int insertWithAncestors(Long commentId, Long parentCommentId) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update(INSERT_WITH_ANCESTORS_SQL, commentId, commentId, now, now, commentId, now, now, parentCommentId);
+    }
+
+    /**
+     * 부모 댓글별로 먼저 등록된 자식 댓글을 limit 건까지 조회한다. (미리보기)
+     */
+    public List<CommentHierarchyResponse> findFirstChildren(Collection<Long> parentIds, int limit) {
+        if (parentIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("parentIds", parentIds)
+                .addValue("limit", limit);
+        return namedParameterJdbcTemplate.query(SELECT_FIRST_CHILDREN_SQL, params,
+                (rs, rowNum) -> new CommentHierarchyResponse(rs.getLong("ancestor_id"), rs.getLong("descendant_id"), 1));
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.board.domain.comment.repository;
+
+import com.board.domain.comment.dto.response.CommentHierarchyResponse;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.entity.QComment;
+import com.board.domain.comment.entity.QCommentHierarchy;
+import com.board.domain.member.entity.QMember;
+import com.board.global.common.util.QuerydslUtil;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final QComment comment = QComment.comment;
+    private final QCommentHierarchy commentHierarchy = QCommentHierarchy.commentHierarchy;
+    private final QMember member = QMember.member;
+
+    /**
+     * 게시글의 모든 댓글을 작성자와 함께 조회한다. (등록순)
+     */
+    public List<Comment> findAllByArticleId(Long articleId) {
+        return queryFactory.selectFrom(comment)
+                .innerJoin(comment.member, member)
+                .fetchJoin()
+                .where(comment.article.id.eq(articleId))
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 게시글의 모든 (부모 댓글, 자식 댓글) 관계를 조회한다. (깊이가 1인 계층 정보)
+     */
+    public List<CommentHierarchyResponse> findParentHierarchiesByArticleId(Long articleId) {
+        return queryFactory.select(hierarchyProjection())
+                .from(commentHierarchy)
+                .innerJoin(commentHierarchy.descendant, comment)
+                .where(comment.article.id.eq(articleId),
+                        commentHierarchy.depth.eq(1))
+                .fetch();
+    }
+
+    /**
+     * 게시글의 루트 댓글을 커서(마지막으로 조회한 댓글 ID) 이후부터 등록순으로 조회한다. <br />
+     * 부모 댓글과의 관계(깊이가 1인 계층 정보)가 없는 댓글이 루트 댓글이다.
+     */
+    public Slice<Comment> findRootCommentSlice(Long articleId, Long cursorId, Pageable pageable) {
+        QCommentHierarchy parentHierarchy = new QCommentHierarchy("parentHierarchy");
+
+        JPAQuery<Comment> query = queryFactory.selectFrom(comment)
+                .innerJoin(comment.member, member)
+                .fetchJoin()
+                .where(comment.article.id.eq(articleId),
+                        afterCursor(cursorId),
+                        JPAExpressions.selectOne()
+                                .from(parentHierarchy)
+                                .where(parentHierarchy.descendantId.eq(comment.id),
+                                        parentHierarchy.depth.eq(1))
+                                .notExists())
+                .orderBy(comment.id.asc());
+
+        return QuerydslUtil.fetchSlice(query, pageable);
+    }
+
+    /**
+     * 댓글의 자식 댓글(깊이가 1인 하위 댓글)을 커서 이후부터 등록순으로 조회한다.
+     */
+    public Slice<Comment> findChildCommentSlice(Long parentId, Long cursorId, Pageable pageable) {
+        JPAQuery<Comment> query = queryFactory.selectFrom(comment)
+                .innerJoin(comment.member, member)
+                .fetchJoin()
+                .where(comment.id.in(JPAExpressions.select(commentHierarchy.descendantId)
+                                .from(commentHierarchy)
+                                .where(commentHierarchy.ancestorId.eq(parentId),
+                                        commentHierarchy.depth.eq(1))),
+                        afterCursor(cursorId))
+                .orderBy(comment.id.asc());
+
+        return QuerydslUtil.fetchSlice(query, pageable);
+    }
+
+    /**
+     * ID 리스트로 댓글을 작성자와 함께 조회한다. (등록순)
+     */
+    public List<Comment> findAllWithMemberByIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return queryFactory.selectFrom(comment)
+                .innerJoin(comment.member, member)
+                .fetchJoin()
+                .where(comment.id.in(ids))
+                .orderBy(comment.id.asc())
+                .fetch();
+    }
+
+    /**
+     * 댓글별 자식 댓글 수를 1번의 쿼리로 조회한다. 자식 댓글이 없는 댓글은 결과에 포함되지 않는다.
+     */
+    public Map<Long, Long> countChildren(Collection<Long> parentIds) {
+        if (parentIds.isEmpty()) {
+            return Map.of();
+        }
+
+        NumberExpression<Long> childCount = commentHierarchy.count();
+        List<Tuple> tuples = queryFactory.select(commentHierarchy.ancestorId, childCount)
+                .from(commentHierarchy)
+                .where(commentHierarchy.ancestorId.in(parentIds),
+                        commentHierarchy.depth.eq(1))
+                .groupBy(commentHierarchy.ancestorId)
+                .fetch();
+
+        Map<Long, Long> childCounts = new HashMap<>(tuples.size() * 2);
+        for (Tuple tuple : tuples) {
+            childCounts.put(tuple.get(commentHierarchy.ancestorId), tuple.get(childCount));
+        }
+        return childCounts;
+    }
+
+    private ConstructorExpression<CommentHierarchyResponse> hierarchyProjection() {
+        return Projections.constructor(CommentHierarchyResponse.class,
+                commentHierarchy.ancestorId, commentHierarchy.descendantId, commentHierarchy.depth);
+    }
+
+    private BooleanExpression afterCursor(Long cursorId) {
+        return cursorId != null ? comment.id.gt(cursorId) : null;
+    }
+
+}
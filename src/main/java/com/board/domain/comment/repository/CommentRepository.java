@@ -2,8 +2,12 @@ package com.board.domain.comment.repository;
 
 import com.board.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +17,31 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Comment findTopByOrderByIdDesc();
 
+    /**
+     * 댓글과 모든 하위 댓글 중 삭제되지 않은 댓글을 1번의 벌크 UPDATE로 삭제하고, 삭제된 댓글 수를 리턴한다. <br />
+     * 일괄 복구 시 이번에 삭제한 댓글만 복구할 수 있도록 일괄 삭제를 요청한 댓글 ID를 함께 기록한다. <br />
+     * 영속성 컨텍스트를 거치지 않으므로 실행 전에 flush 하고, 실행 후에는 변경 전 상태의 엔티티가 남지 않도록 clear 한다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Comment c
+            SET c.deleted = true, c.deletedBySubtreeOf = :ancestorId, c.modifiedDateTime = :now
+            WHERE c.deleted = false
+            AND c.id IN (SELECT ch.descendantId FROM CommentHierarchy ch WHERE ch.ancestorId = :ancestorId)
+            """)
+    int deleteSubtree(@Param("ancestorId") Long ancestorId, @Param("now") LocalDateTime now);
+
+    /**
+     * 같은 댓글 ID로 일괄 삭제된 댓글만 1번의 벌크 UPDATE로 복구하고, 복구된 댓글 수를 리턴한다. <br />
+     * 일괄 삭제 전에 개별 삭제되었거나 다른 댓글 기준으로 일괄 삭제된 하위 댓글은 복구하지 않는다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE Comment c
+            SET c.deleted = false, c.deletedBySubtreeOf = null, c.modifiedDateTime = :now
+            WHERE c.deleted = true
+            AND c.deletedBySubtreeOf = :ancestorId
+            """)
+    int restoreSubtree(@Param("ancestorId") Long ancestorId, @Param("now") LocalDateTime now);
+
 }
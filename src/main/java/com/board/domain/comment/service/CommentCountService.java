@@ -0,0 +1,71 @@
+package com.board.domain.comment.service;
+
+import com.board.domain.article.service.ArticleCacheService;
+import com.board.domain.comment.repository.CommentCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 게시글의 댓글 수를 COUNT 쿼리 대신 게시글 컬럼으로 관리한다. <br />
+ * 댓글 등록/삭제 트랜잭션에서 함께 증감하고, 장애 등으로 어긋난 값은 주기적으로 실제 댓글 수로 보정한다. <br />
+ * 캐시된 게시글 상세의 댓글 수가 바뀌므로 증감하면 커밋 후에 캐시를 무효화한다.
+ */
+@Slf4j
+@Service
+public class CommentCountService {
+
+    private final CommentCountRepository commentCountRepository;
+    private final ArticleCacheService articleCacheService;
+    private final int reconciliationChunkSize;
+
+    public CommentCountService(CommentCountRepository commentCountRepository,
+                               ArticleCacheService articleCacheService,
+                               @Value("${comment.count-reconciliation.chunk-size:1000}") int reconciliationChunkSize) {
+        this.commentCountRepository = commentCountRepository;
+        this.articleCacheService = articleCacheService;
+        this.reconciliationChunkSize = reconciliationChunkSize;
+    }
+
+    public void increase(Long articleId) {
+        add(articleId, 1);
+    }
+
+    public void decrease(Long articleId) {
+        add(articleId, -1);
+    }
+
+    /**
+     * 하위 댓글 일괄 삭제/복구처럼 여러 건이 한 번에 변경된 경우
+     */
+    public void add(Long articleId, int delta) {
+        if (delta != 0) {
+            commentCountRepository.incrementCommentCount(articleId, delta);
+            articleCacheService.evictAfterCommit(articleId);
+        }
+    }
+
+    /**
+     * 게시글 ID 범위를 나눠서 댓글 수를 보정한다. <br />
+     * 범위마다 별도의 UPDATE로 처리하여 한 번에 많은 row lock을 잡지 않는다.
+     */
+    @Scheduled(cron = "${comment.count-reconciliation.cron:0 30 4 * * *}")
+    public void reconcile() {
+        long maxId = commentCountRepository.findMaxArticleId();
+        int reconciledCount = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += reconciliationChunkSize) {
+            try {
+                reconciledCount += commentCountRepository.reconcileCommentCounts(fromId, fromId + reconciliationChunkSize - 1);
+            } catch (Exception e) {
+                log.error("댓글 수 보정에 실패했습니다. [fromId] : {}, [errorMessage] : {}", fromId, e.getMessage());
+            }
+        }
+
+        if (reconciledCount > 0) {
+            log.warn("실제 댓글 수와 다른 게시글의 댓글 수를 보정했습니다. [count] : {}", reconciledCount);
+        }
+    }
+
+}
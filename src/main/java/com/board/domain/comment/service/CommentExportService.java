@@ -0,0 +1,93 @@
+package com.board.domain.comment.service;
+
+import com.board.domain.article.repository.ArticleRepository;
+import com.board.domain.comment.repository.CommentExportRepository;
+import com.board.global.common.exception.NotFoundException;
+import com.board.global.common.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.Semaphore;
+
+import static com.board.global.common.enumeration.ErrorCode.ARTICLE_NOT_FOUND;
+import static com.board.global.common.enumeration.ErrorCode.COMMENT_EXPORT_BUSY;
+
+/**
+ * 게시글의 댓글 스레드 전체를 NDJSON(1줄에 댓글 1건)으로 내보낸다. (보관, 모니터링 도구용) <br />
+ * DB 커서에서 읽은 댓글을 바로 응답 스트림에 쓰므로 스레드 크기와 관계없이 메모리 사용량이 일정하다. <br />
+ * 내보내는 동안 DB 커넥션을 점유하므로(느린 클라이언트면 최대 비동기 요청 시간까지), 동시에 진행하는 내보내기 수를 제한하고 초과하면 503으로 거절한다.
+ */
+@Slf4j
+@Service
+public class CommentExportService {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final byte LINE_SEPARATOR = '\n';
+
+    private final CommentExportRepository commentExportRepository;
+    private final ArticleRepository articleRepository;
+    private final ObjectMapper objectMapper;
+    private final Semaphore exportPermits;
+
+    public CommentExportService(CommentExportRepository commentExportRepository,
+                                ArticleRepository articleRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${comment.export.max-concurrent:4}") int maxConcurrent) {
+        this.commentExportRepository = commentExportRepository;
+        this.articleRepository = articleRepository;
+        this.objectMapper = objectMapper;
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 게시글을 검증한 후 응답 바디를 리턴한다. 스트리밍은 응답을 쓰는 시점에 별도 스레드에서 실행된다. <br />
+     * 응답 상태 코드를 보낼 수 있도록 스트리밍 전에 허가를 얻고, 스트리밍이 끝나면(중단 포함) 반납한다.
+     */
+    public StreamingResponseBody exportCommentThread(Long articleId) {
+        if (!articleRepository.existsByIdAndDeletedFalse(articleId)) {
+            throw new NotFoundException(ARTICLE_NOT_FOUND);
+        }
+
+        if (!exportPermits.tryAcquire()) {
+            throw new ServiceUnavailableException(COMMENT_EXPORT_BUSY);
+        }
+
+        return outputStream -> {
+            try {
+                writeCommentThread(articleId, outputStream);
+            } finally {
+                exportPermits.release();
+            }
+        };
+    }
+
+    private void writeCommentThread(Long articleId, OutputStream outputStream) throws IOException {
+        BufferedOutputStream out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        try {
+            commentExportRepository.streamThread(articleId, comment -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(comment));
+                    out.write(LINE_SEPARATOR);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 연결을 끊은 경우 커서를 닫고 종료한다.
+            log.warn("댓글 내보내기가 중단되었습니다. [articleId] : {}, [errorMessage] : {}", articleId, e.getMessage());
+            return;
+        }
+        out.flush();
+    }
+
+}
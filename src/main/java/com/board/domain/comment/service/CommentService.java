@@ -6,28 +6,54 @@ import com.board.domain.article.repository.ArticleRepository;
 import com.board.domain.comment.dto.request.ChildCommentServiceRequest;
 import com.board.domain.comment.dto.request.CommentHierarchyServiceRequest;
 import com.board.domain.comment.dto.request.CommentServiceRequest;
+import com.board.domain.comment.dto.response.CommentHierarchyResponse;
+import com.board.domain.comment.dto.response.CommentNodeResponse;
 import com.board.domain.comment.dto.response.CommentResponse;
+import com.board.domain.comment.dto.response.CommentTreeResponse;
 import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.repository.CommentHierarchyJdbcRepository;
+import com.board.domain.comment.repository.CommentQueryRepository;
 import com.board.domain.comment.repository.CommentRepository;
 import com.board.domain.member.entity.Member;
 import com.board.domain.member.service.MemberService;
+import com.board.global.common.dto.page.PageCursor;
+import com.board.global.common.dto.page.PageResponse;
+import com.board.global.common.dto.page.PageServiceRequest;
+import com.board.global.common.exception.ConflictException;
 import com.board.global.common.exception.NotFoundException;
+import com.board.global.common.exception.UnprocessableEntityException;
+import com.board.global.common.util.CommonUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import static com.board.global.common.enumeration.ErrorCode.ARTICLE_NOT_FOUND;
-import static com.board.global.common.enumeration.ErrorCode.COMMENT_NOT_FOUND;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.board.global.common.enumeration.ErrorCode.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class CommentService {
 
+    private static final String CURSOR_SORT_COLUMN = "id";
+    private static final int MAX_PREVIEW_SIZE = 10;
+
     private final CommentHierarchySerivce commentHierarchySerivce;
+    private final CommentCountService commentCountService;
     private final MemberService memberService;
 
     private final CommentRepository commentRepository;
+    private final CommentQueryRepository commentQueryRepository;
+    private final CommentHierarchyJdbcRepository commentHierarchyJdbcRepository;
     private final ArticleRepository articleRepository;
 
     /**
@@ -37,6 +63,7 @@ public class CommentService {
     public void createComment(CommentServiceRequest request, Long memberId) {
         Comment comment = saveComment(request.getContent(), memberId, request.getArticleId());
         commentHierarchySerivce.createCommentHierarchy(CommentHierarchyServiceRequest.withComment(comment));
+        commentCountService.increase(comment.getArticleId());
     }
 
     /**
@@ -47,6 +74,7 @@ public class CommentService {
         Comment parentComment = findValidComment(request.getParentCommentId());
         Comment comment = saveComment(request.getContent(), memberId, parentComment.getArticleId());
         commentHierarchySerivce.createCommentHierarchy(CommentHierarchyServiceRequest.of(comment, parentComment));
+        commentCountService.increase(comment.getArticleId());
     }
 
     public CommentResponse getComment(Long id) {
@@ -54,6 +82,80 @@ public class CommentService {
         return CommentResponse.of(comment);
     }
 
+    /**
+     * 게시글의 댓글 전체를 트리 구조로 조회한다. <br />
+     * 댓글과 (부모, 자식) 관계를 각각 1번씩 조회한 후 메모리에서 조립한다. (O(n))
+     */
+    public List<CommentTreeResponse> getCommentTree(Long articleId) {
+        validateArticle(articleId);
+
+        List<Comment> comments = commentQueryRepository.findAllByArticleId(articleId);
+        List<CommentHierarchyResponse> hierarchies = commentQueryRepository.findParentHierarchiesByArticleId(articleId);
+
+        return assembleTree(comments, hierarchies);
+    }
+
+    /**
+     * 게시글의 루트 댓글을 커서 기반으로 조회한다. 루트 댓글마다 먼저 등록된 자식 댓글을 previewSize 건까지 함께 응답한다. <br />
+     * 스레드 크기와 관계없이 쿼리 4번(루트 댓글, 미리보기 ID, 미리보기 댓글, 자식 댓글 수)으로 처리한다.
+     */
+    public PageResponse getRootComments(Long articleId, PageServiceRequest request, int previewSize) {
+        validateArticle(articleId);
+
+        Slice<Comment> rootComments;
+        try {
+            rootComments = commentQueryRepository.findRootCommentSlice(articleId, getCursorId(request), Pageable.ofSize(request.getPageSize()));
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
+
+        List<Long> rootIds = CommonUtil.mapperToList(rootComments.getContent(), Comment::getId);
+        List<CommentHierarchyResponse> previewHierarchies = commentHierarchyJdbcRepository.findFirstChildren(rootIds, Math.min(Math.max(previewSize, 0), MAX_PREVIEW_SIZE));
+        List<Long> previewIds = CommonUtil.mapperToList(previewHierarchies, CommentHierarchyResponse::descendantId);
+
+        Map<Long, Comment> previewComments = commentQueryRepository.findAllWithMemberByIdIn(previewIds).stream()
+                .collect(Collectors.toMap(Comment::getId, Function.identity()));
+
+        List<Long> countTargetIds = new ArrayList<>(rootIds);
+        countTargetIds.addAll(previewIds);
+        Map<Long, Long> childCounts = commentQueryRepository.countChildren(countTargetIds);
+
+        Map<Long, List<CommentNodeResponse>> previews = new HashMap<>();
+        for (CommentHierarchyResponse hierarchy : previewHierarchies) {
+            Comment child = previewComments.get(hierarchy.descendantId());
+            previews.computeIfAbsent(hierarchy.ancestorId(), key -> new ArrayList<>())
+                    .add(CommentNodeResponse.of(child, childCounts.getOrDefault(child.getId(), 0L)));
+        }
+
+        return PageResponse.ofCursor(rootComments,
+                CommonUtil.mapperToList(rootComments.getContent(), root -> CommentNodeResponse.of(root,
+                        childCounts.getOrDefault(root.getId(), 0L),
+                        previews.getOrDefault(root.getId(), List.of()))),
+                createNextCursor(rootComments));
+    }
+
+    /**
+     * 댓글의 자식 댓글을 커서 기반으로 조회한다. 자식 댓글 수를 함께 응답하므로 같은 API로 하위 댓글을 계속 펼쳐볼 수 있다.
+     */
+    public PageResponse getChildComments(Long commentId, PageServiceRequest request) {
+        if (!commentRepository.existsById(commentId)) {
+            throw new NotFoundException(COMMENT_NOT_FOUND);
+        }
+
+        Slice<Comment> childComments;
+        try {
+            childComments = commentQueryRepository.findChildCommentSlice(commentId, getCursorId(request), Pageable.ofSize(request.getPageSize()));
+        } catch (Exception e) {
+            throw new UnprocessableEntityException(e.getMessage());
+        }
+
+        Map<Long, Long> childCounts = commentQueryRepository.countChildren(CommonUtil.mapperToList(childComments.getContent(), Comment::getId));
+
+        return PageResponse.ofCursor(childComments,
+                CommonUtil.mapperToList(childComments.getContent(), child -> CommentNodeResponse.of(child, childCounts.getOrDefault(child.getId(), 0L))),
+                createNextCursor(childComments));
+    }
+
     @Transactional
     public void updateComment(CommentServiceRequest request, Long memberId) {
         Comment comment = findValidComment(request.getId());
@@ -67,6 +169,44 @@ public class CommentService {
                 .orElseThrow(() -> new NotFoundException(COMMENT_NOT_FOUND));
         comment.validateWriter(memberId);
         comment.delete();
+        commentCountService.decrease(comment.getArticleId());
+    }
+
+    /**
+     * 댓글과 모든 하위 댓글을 한 번에 삭제한다. (스팸 스레드 정리 등) <br />
+     * 계층 테이블로 하위 댓글을 찾아 1번의 벌크 UPDATE로 처리하며, 엔티티 변경 감지를 거치지 않는다.
+     */
+    @Transactional
+    public void deleteCommentSubtree(Long commentId, Long memberId) {
+        Comment comment = findCommentForModeration(commentId, memberId);
+
+        int deletedCount = commentRepository.deleteSubtree(comment.getId(), LocalDateTime.now());
+        if (deletedCount == 0) {
+            throw new ConflictException(ALREADY_DELETED);
+        }
+        commentCountService.add(comment.getArticleId(), -deletedCount);
+    }
+
+    /**
+     * 댓글 기준으로 일괄 삭제된 댓글을 한 번에 복구한다. <br />
+     * 일괄 삭제 전에 이미 삭제되어 있던 하위 댓글은 복구하지 않는다.
+     */
+    @Transactional
+    public void restoreCommentSubtree(Long commentId, Long memberId) {
+        Comment comment = findCommentForModeration(commentId, memberId);
+
+        int restoredCount = commentRepository.restoreSubtree(comment.getId(), LocalDateTime.now());
+        if (restoredCount == 0) {
+            throw new ConflictException(NOT_DELETED);
+        }
+        commentCountService.add(comment.getArticleId(), restoredCount);
+    }
+
+    private Comment findCommentForModeration(Long commentId, Long memberId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new NotFoundException(COMMENT_NOT_FOUND));
+        comment.validateModerator(memberId);
+        return comment;
     }
 
     private Comment saveComment(String content, Long memberId, Long articleId) {
@@ -78,6 +218,62 @@ public class CommentService {
         return commentRepository.save(Comment.of(article, member, content));
     }
 
+    /**
+     * 등록순으로 조회한 댓글을 그대로 순회하므로 형제 댓글도 등록순으로 정렬된다.
+     */
+    private List<CommentTreeResponse> assembleTree(List<Comment> comments, List<CommentHierarchyResponse> hierarchies) {
+        Map<Long, Long> parentIds = new HashMap<>(hierarchies.size() * 2);
+        for (CommentHierarchyResponse hierarchy : hierarchies) {
+            parentIds.put(hierarchy.descendantId(), hierarchy.ancestorId());
+        }
+
+        Map<Long, CommentTreeResponse> nodes = new HashMap<>(comments.size() * 2);
+        for (Comment comment : comments) {
+            nodes.put(comment.getId(), CommentTreeResponse.of(comment));
+        }
+
+        List<CommentTreeResponse> roots = new ArrayList<>();
+        for (Comment comment : comments) {
+            CommentTreeResponse node = nodes.get(comment.getId());
+            CommentTreeResponse parent = nodes.get(parentIds.get(comment.getId()));
+            if (parent != null) {
+                parent.children().add(node);
+            } else {
+                roots.add(node);
+            }
+        }
+        return roots;
+    }
+
+    private void validateArticle(Long articleId) {
+        if (!articleRepository.existsByIdAndDeletedFalse(articleId)) {
+            throw new NotFoundException(ARTICLE_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 댓글은 ID(등록순)로만 정렬하므로 커서에는 마지막으로 조회한 댓글 ID만 사용한다.
+     */
+    private Long getCursorId(PageServiceRequest request) {
+        PageCursor cursor = request.toPageCursor();
+        if (cursor == null) {
+            return null;
+        }
+        if (!CURSOR_SORT_COLUMN.equals(cursor.sortByColumn())) {
+            throw new IllegalArgumentException("커서 값이 올바르지 않습니다.");
+        }
+        return cursor.id();
+    }
+
+    private String createNextCursor(Slice<Comment> slice) {
+        if (!slice.hasNext() || !slice.hasContent()) {
+            return null;
+        }
+
+        Long lastId = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+        return PageCursor.of(CURSOR_SORT_COLUMN, lastId, lastId).encode();
+    }
+
     private Comment findValidComment(Long commentId) {
         return commentRepository.findByIdAndDeletedFalse(commentId)
                 .orElseThrow(() -> new NotFoundException(COMMENT_NOT_FOUND));
@@ -11,27 +11,26 @@ import lombok.RequiredArgsConstructor;
 public class MemberServiceRequest {
 
     private String email;
-    private String password;
+    private String encodedPassword;
 
     @Builder(access = AccessLevel.PRIVATE)
-    public MemberServiceRequest(String email, String password) {
+    public MemberServiceRequest(String email, String encodedPassword) {
         this.email = email;
-        this.password = password;
+        this.encodedPassword = encodedPassword;
     }
 
-    public static MemberServiceRequest of(String email, String password) {
+    /**
+     * 비밀번호는 해시된 값을 전달한다.
+     */
+    public static MemberServiceRequest of(String email, String encodedPassword) {
         return MemberServiceRequest.builder()
                 .email(email)
-                .password(password)
+                .encodedPassword(encodedPassword)
                 .build();
     }
 
     public Member toEntity() {
-        return Member.builder()
-                .email(email)
-                .password(password)
-                .deleted(false)
-                .build();
+        return Member.create(email, encodedPassword);
     }
 
 }
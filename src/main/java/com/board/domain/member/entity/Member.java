@@ -36,6 +36,18 @@ public class Member extends BaseEntity {
         this.deleted = deleted;
     }
 
+    /**
+     * 미리 해시한 비밀번호로 회원을 생성한다. <br />
+     * 비밀번호 형식 검증과 해시는 트랜잭션을 시작하기 전에 처리한다. (PasswordHasher)
+     */
+    public static Member create(String email, String encodedPassword) {
+        Member member = new Member();
+        member.email = member.validateEmail(email);
+        member.password = encodedPassword;
+        member.deleted = false;
+        return member;
+    }
+
     private String validateEmail(String email) {
         String emailPattern = "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+(\\.[a-zA-Z]{2,})+$";
         Pattern pattern = Pattern.compile(emailPattern);
@@ -48,7 +60,10 @@ public class Member extends BaseEntity {
         return email;
     }
 
-    private void validatePassword(String password) {
+    /**
+     * 비밀번호 형식을 검증한다. (해시하기 전의 비밀번호)
+     */
+    public static void validatePassword(String password) {
         String passwordPattern = "^(?=.*[0-9])(?=.*[a-z])(?=.*[A-Z])(?=.*[@#$%^&+=!])(?=\\S+$).{12,}$";
         Pattern pattern = Pattern.compile(passwordPattern);
         Matcher matcher = pattern.matcher(password);
@@ -69,4 +69,12 @@ public class ApiResponse<T> {
         return new ApiResponse<>(UNPROCESSABLE_ENTITY.value(), false, ErrorBody.fromErrorCode(errorCode));
     }
 
+    public static ApiResponse<Void> tooManyRequests(ErrorCode errorCode) {
+        return new ApiResponse<>(TOO_MANY_REQUESTS.value(), false, ErrorBody.fromErrorCode(errorCode));
+    }
+
+    public static ApiResponse<Void> serviceUnavailable(ErrorCode errorCode) {
+        return new ApiResponse<>(SERVICE_UNAVAILABLE.value(), false, ErrorBody.fromErrorCode(errorCode));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.board.global.common.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이징에서 마지막으로 조회한 데이터의 위치 (정렬 기준 컬럼, 정렬 기준 값, ID) <br />
+ * 클라이언트에는 Base64 URL 인코딩된 불투명한 문자열로 전달한다.
+ */
+public record PageCursor(
+        String sortByColumn,
+        String sortValue,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static PageCursor of(String sortByColumn, Object sortValue, Long id) {
+        return new PageCursor(sortByColumn, String.valueOf(sortValue), id);
+    }
+
+    public static PageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] tokens = decoded.split("\\|", -1);
+            if (tokens.length != 3) {
+                throw new IllegalArgumentException();
+            }
+            return new PageCursor(tokens[0], tokens[1], Long.parseLong(tokens[2]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("커서 값이 올바르지 않습니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortByColumn + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
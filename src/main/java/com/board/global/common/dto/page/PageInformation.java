@@ -1,5 +1,6 @@
 package com.board.global.common.dto.page;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,11 +9,12 @@ import lombok.Getter;
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageInformation {
 
-    private final int pageNumber;
-    private final int totalPages;
-    private final long totalElements;
+    private final Integer pageNumber;
+    private final Integer totalPages;
+    private final Long totalElements;
     private final Boolean isLast;
 
     public static PageInformation of(int pageNumber, int totalPages, long totalElements, boolean isLast) {
@@ -24,4 +26,25 @@ public class PageInformation {
                 .build();
     }
 
+    /**
+     * 커서 기반 페이징은 페이지 번호와 전체 건수를 계산하지 않는다.
+     */
+    public static PageInformation ofCursor(boolean isLast) {
+        return PageInformation.builder()
+                .isLast(isLast)
+                .build();
+    }
+
+    /**
+     * 슬라이스 페이징은 전체 페이지 수를 계산하지 않는다. <br />
+     * 전체 건수는 별도로 관리하는 카운터 값이며 실제 건수와 일시적으로 다를 수 있다.
+     */
+    public static PageInformation ofSlice(int pageNumber, boolean isLast, Long totalElements) {
+        return PageInformation.builder()
+                .pageNumber(pageNumber + 1)
+                .totalElements(totalElements)
+                .isLast(isLast)
+                .build();
+    }
+
 }
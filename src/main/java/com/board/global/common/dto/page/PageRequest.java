@@ -12,9 +12,11 @@ public class PageRequest {
     private Integer pageSize;
     private String sortDirection;
     private String sortByColumn;
+    private String cursor;
+    private Boolean slice;
 
     public PageServiceRequest toServiceRequest() {
-        return PageServiceRequest.of(pageNumber, pageSize, sortDirection, sortByColumn);
+        return PageServiceRequest.of(pageNumber, pageSize, sortDirection, sortByColumn, cursor, slice);
     }
 
 }
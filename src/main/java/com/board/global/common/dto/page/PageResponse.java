@@ -1,25 +1,50 @@
 package com.board.global.common.dto.page;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 @Getter
 @Builder
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse {
 
     private final PageInformation pageInformation;
     private final List<?> contents;
+    private final String nextCursor;
 
     public static PageResponse of(Page<?> page, List<?> dtoContents) {
+        return of(page, dtoContents, null);
+    }
+
+    public static PageResponse of(Page<?> page, List<?> dtoContents, String nextCursor) {
         return PageResponse.builder()
                 .pageInformation(PageInformation.of(page.getNumber(), page.getTotalPages(), page.getTotalElements(), page.isLast()))
                 .contents(dtoContents)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public static PageResponse ofCursor(Slice<?> slice, List<?> dtoContents, String nextCursor) {
+        return PageResponse.builder()
+                .pageInformation(PageInformation.ofCursor(slice.isLast()))
+                .contents(dtoContents)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    public static PageResponse ofSlice(Slice<?> slice, List<?> dtoContents, Long totalElements, String nextCursor) {
+        return PageResponse.builder()
+                .pageInformation(PageInformation.ofSlice(slice.getNumber(), slice.isLast(), totalElements))
+                .contents(dtoContents)
+                .nextCursor(nextCursor)
                 .build();
     }
 
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -28,4 +29,12 @@ public class PageResponseWithExtraData<T> {
                 .build();
     }
 
+    public static <T> PageResponseWithExtraData<T> ofSlice(Slice<?> slice, T extraData, List<?> dtoContents, Long totalElements) {
+        return PageResponseWithExtraData.<T>builder()
+                .pageInformation(PageInformation.ofSlice(slice.getNumber(), slice.isLast(), totalElements))
+                .extraData(extraData)
+                .contents(dtoContents)
+                .build();
+    }
+
 }
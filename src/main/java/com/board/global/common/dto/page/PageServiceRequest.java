@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -20,16 +21,41 @@ public class PageServiceRequest {
     private Integer pageSize;
     private String sortDirection;
     private String sortByColumn;
+    private String cursor;
+    private boolean slice;
 
     @Builder(access = AccessLevel.PRIVATE)
-    private PageServiceRequest(Integer pageNumber, Integer pageSize, String sortDirection, String sortByColumn) {
+    private PageServiceRequest(Integer pageNumber, Integer pageSize, String sortDirection, String sortByColumn, String cursor, Boolean slice) {
         this.pageNumber = (pageNumber != null) ? pageNumber - 1 : null;
         this.pageSize = (pageSize != null) ? pageSize : DEFAULT_PAGE_SIZE;
         this.sortDirection = (sortDirection != null) ? sortDirection : DEFAULT_SORT_DIRECTION;
         this.sortByColumn = (sortByColumn != null) ? sortByColumn : DEFAULT_SORT_BY_COLUMN;
+        this.cursor = cursor;
+        this.slice = Boolean.TRUE.equals(slice);
+    }
+
+    /**
+     * 커서 값이 넘어온 경우 커서 기반 페이징으로 처리한다.
+     */
+    public boolean isCursorMode() {
+        return StringUtils.hasText(cursor);
+    }
+
+    /**
+     * 페이지 번호와 함께 slice=true가 넘어온 경우 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인한다.
+     */
+    public boolean isSliceMode() {
+        return slice && pageNumber != null && !isCursorMode();
+    }
+
+    public PageCursor toPageCursor() {
+        return isCursorMode() ? PageCursor.decode(cursor) : null;
     }
 
     public Pageable toPageable() {
+        if (isCursorMode()) {
+            return PageRequest.of(0, pageSize, Sort.Direction.fromString(sortDirection), sortByColumn);
+        }
         if (pageNumber == null) {
             return Pageable.unpaged(Sort.by(Sort.Direction.DESC, "id"));
         }
@@ -45,6 +71,27 @@ public class PageServiceRequest {
                 .build();
     }
 
+    public static PageServiceRequest of(Integer pageNumber, Integer pageSize, String sortDirection, String sortByColumn, String cursor) {
+        return PageServiceRequest.builder()
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .sortDirection(sortDirection)
+                .sortByColumn(sortByColumn)
+                .cursor(cursor)
+                .build();
+    }
+
+    public static PageServiceRequest of(Integer pageNumber, Integer pageSize, String sortDirection, String sortByColumn, String cursor, Boolean slice) {
+        return PageServiceRequest.builder()
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .sortDirection(sortDirection)
+                .sortByColumn(sortByColumn)
+                .cursor(cursor)
+                .slice(slice)
+                .build();
+    }
+
     public static PageServiceRequest withDefault() {
         return PageServiceRequest.builder()
                 .build();
@@ -17,6 +17,7 @@ public enum ErrorCode {
 
     // 403
     INVALID_WRITER("작성자가 아닙니다."),
+    INVALID_MODERATOR("댓글 작성자 또는 게시글 작성자가 아닙니다."),
 
     // 404
     ARTICLE_NOT_FOUND("게시글 정보가 존재하지 않습니다."),
@@ -26,11 +27,19 @@ public enum ErrorCode {
     // 409
     EMAIL_ALREADY_REGISTERED("이미 가입된 이메일입니다."),
     ALREADY_DELETED("이미 삭제되었습니다."),
+    NOT_DELETED("삭제된 댓글이 없습니다."),
 
     // 422
     LENGTH_EXCEEDED("글자 수 제한을 초과하였습니다. [최대 {0}자]"),
     INVALID_EMAIL_FORMAT("잘못된 이메일 형식입니다."),
-    INVALID_PASSWORD_FORMAT("비밀번호는 영문 대문자, 소문자, 숫자, 특수문자가 최소 1개 이상 포함된 12자리 이상 문자열이어야 합니다.");
+    INVALID_PASSWORD_FORMAT("비밀번호는 영문 대문자, 소문자, 숫자, 특수문자가 최소 1개 이상 포함된 12자리 이상 문자열이어야 합니다."),
+
+    // 429
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+
+    // 503
+    PASSWORD_HASHING_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
+    COMMENT_EXPORT_BUSY("진행 중인 댓글 내보내기가 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private String message;
 
@@ -0,0 +1,16 @@
+package com.board.global.common.exception;
+
+import com.board.global.common.enumeration.ErrorCode;
+import lombok.Getter;
+
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final ErrorCode errorCode;
+
+    public ServiceUnavailableException(ErrorCode errorCode) {
+        super(errorCode.getMessage());
+        this.errorCode = errorCode;
+    }
+
+}
@@ -13,23 +13,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.util.ContentCachingRequestWrapper;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 
 /**
  * HTTP 요청 및 응답의 바디와 파라미터를 로깅하는 필터입니다.
  * 로컬, 개발, 테스트 환경에서는 전체 요청/응답을 로깅하며,
  * 운영 환경에서는 예외 발생 시에만 로깅합니다.
+ * 바디는 앞부분을 최대 {@value #MAX_BODY_BYTES}바이트까지만 보관하며,
+ * 응답은 버퍼링하지 않고 바로 전송하면서 로깅할 응답(상태 코드 기준)만 복사합니다.
+ * 스트리밍 응답은 바디를 복사하지 않고, 비동기로 처리되면 응답이 완료된 후에 로깅합니다.
  */
 @Slf4j
 public abstract class AbstractRequestResponseLoggingFilter extends OncePerRequestFilter {
 
     private static final Set<String> MASKING_FIELDS = Set.of("accessToken", "refreshToken", "password");
+    // 잘려서 JSON으로 파싱할 수 없는 바디의 마스킹 대상 필드 (값이 잘린 경우 포함)
+    private static final Pattern TRUNCATED_MASKING_PATTERN = Pattern.compile("\"(" + String.join("|", MASKING_FIELDS) + ")\"\\s*:\\s*\"[^\"]*\"?");
+    static final int MAX_BODY_BYTES = 4 * 1024;
 
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -39,11 +45,19 @@ public abstract class AbstractRequestResponseLoggingFilter extends OncePerReques
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         if (LogExclusionMatcher.shouldSkipLogging(request)) {
+            filterChain.doFilter(request, response);
             return;
         }
 
-        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        if (LogExclusionMatcher.shouldSkipBodyLogging(request)) {
+            doFilterWithoutBody(request, response, filterChain);
+            return;
+        }
+
+        // 요청 바디는 읽히는 만큼만 최대 MAX_BODY_BYTES까지 복사된다.
+        ContentCachingRequestWrapper wrappedRequest = new ContentCachingRequestWrapper(request, MAX_BODY_BYTES);
+        BodyCapturingResponseWrapper wrappedResponse = new BodyCapturingResponseWrapper(response, MAX_BODY_BYTES,
+                capturingResponse -> shouldLogRequestResponse(request, capturingResponse));
 
         try {
             filterChain.doFilter(wrappedRequest, wrappedResponse);
@@ -52,13 +66,34 @@ public abstract class AbstractRequestResponseLoggingFilter extends OncePerReques
                 logRequest(wrappedRequest);
                 logResponse(wrappedResponse);
             }
-            wrappedResponse.copyBodyToResponse();
+        }
+    }
+
+    private void doFilterWithoutBody(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestContext requestContext = new RequestContext(request);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (isAsyncStarted(request)) {
+                // 비동기 디스패치는 이 필터를 거치지 않으므로 응답이 완료된 시점에 로깅한다.
+                request.getAsyncContext().addListener(new AsyncCompletionListener(() -> logWithoutBody(requestContext, request, response)));
+            } else {
+                logWithoutBody(requestContext, request, response);
+            }
+        }
+    }
+
+    private void logWithoutBody(RequestContext requestContext, HttpServletRequest request, HttpServletResponse response) {
+        if (shouldLogRequestResponse(request, response)) {
+            log.info(">>> {} {}", requestContext.getMethod(), requestContext.getFullUri());
+            log.info("<<< {}", HttpStatus.valueOf(response.getStatus()));
         }
     }
 
     private void logRequest(ContentCachingRequestWrapper request) {
-        String body = new String(request.getContentAsByteArray(), StandardCharsets.UTF_8);
-        String prettyBody = toPrettyJson(body);
+        byte[] content = request.getContentAsByteArray();
+        String body = new String(content, StandardCharsets.UTF_8);
+        String prettyBody = toPrettyJson(body, request.getContentLengthLong() > content.length);
         RequestContext requestContext = new RequestContext(request);
         if (prettyBody.isEmpty()) {
             log.info(">>> {} {}", requestContext.getMethod(), requestContext.getFullUri());
@@ -67,9 +102,8 @@ public abstract class AbstractRequestResponseLoggingFilter extends OncePerReques
         }
     }
 
-    private void logResponse(ContentCachingResponseWrapper response) {
-        String body = new String(response.getContentAsByteArray(), StandardCharsets.UTF_8);
-        String prettyBody = toPrettyJson(body);
+    private void logResponse(BodyCapturingResponseWrapper response) {
+        String prettyBody = toPrettyJson(response.getCapturedBody(), response.isTruncated());
 
         if (prettyBody.isEmpty()) {
             log.info("<<< {}", HttpStatus.valueOf(response.getStatus()));
@@ -78,7 +112,11 @@ public abstract class AbstractRequestResponseLoggingFilter extends OncePerReques
         }
     }
 
-    private String toPrettyJson(String json) {
+    private String toPrettyJson(String json, boolean truncated) {
+        if (truncated) {
+            return TRUNCATED_MASKING_PATTERN.matcher(json).replaceAll("\"$1\":\"[MASKED]\"") + " ...(truncated)";
+        }
+
         try {
             JsonNode jsonNode = objectMapper.readTree(json);
             maskSensitiveFields(jsonNode);
@@ -10,7 +10,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.io.IOException;
 
@@ -26,22 +25,30 @@ public class AccessLoggingFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
         if (LogExclusionMatcher.shouldSkipLogging(request)) {
+            filterChain.doFilter(request, response);
             return;
         }
 
-        ContentCachingResponseWrapper wrappedResponse = new ContentCachingResponseWrapper(response);
+        // 상태 코드만 필요하므로 응답을 래핑(버퍼링)하지 않는다.
         long startTime = System.currentTimeMillis();
 
         try {
             filterChain.doFilter(request, response);
         } finally {
-            long duration = System.currentTimeMillis() - startTime;
             RequestContext requestContext = new RequestContext(request);
-            int responseStatusCode = wrappedResponse.getStatus();
-            log.info("[{}] {} [{}] ({}ms)", requestContext.getMethod(), requestContext.getFullUri(), HttpStatus.valueOf(responseStatusCode), duration);
-
-            wrappedResponse.copyBodyToResponse();
+            if (isAsyncStarted(request)) {
+                // 비동기 요청(스트리밍 응답 등)은 응답이 완료된 시점의 상태 코드와 처리 시간을 로깅한다.
+                request.getAsyncContext().addListener(new AsyncCompletionListener(() -> logAccess(requestContext, response, startTime)));
+            } else {
+                logAccess(requestContext, response, startTime);
+            }
         }
     }
 
+    private void logAccess(RequestContext requestContext, HttpServletResponse response, long startTime) {
+        long duration = System.currentTimeMillis() - startTime;
+        int responseStatusCode = response.getStatus();
+        log.info("[{}] {} [{}] ({}ms)", requestContext.getMethod(), requestContext.getFullUri(), HttpStatus.valueOf(responseStatusCode), duration);
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.board.global.common.filter;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+
+/**
+ * 비동기 요청이 완료(타임아웃, 에러 포함)되면 callback을 실행한다. <br />
+ * 비동기 요청은 최초 디스패치가 끝난 시점에 응답이 완료되지 않으므로, 필터는 이 리스너로 완료 후에 로깅한다.
+ */
+class AsyncCompletionListener implements AsyncListener {
+
+    private final Runnable callback;
+
+    AsyncCompletionListener(Runnable callback) {
+        this.callback = callback;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        callback.run();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+        // 비동기 처리가 다시 시작되면 리스너가 제거되므로 다시 등록한다.
+        event.getAsyncContext().addListener(this);
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.board.global.common.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Predicate;
+
+/**
+ * 응답 바디를 버퍼링하지 않고 그대로 전송하면서, 로깅할 응답만 앞부분을 최대 maxBytes까지 복사해둔다. <br />
+ * 복사 여부는 바디를 처음 쓰는 시점의 응답(상태 코드)으로 판단하므로, 로깅하지 않는 응답은 복사하지 않는다. <br />
+ * ContentCachingResponseWrapper와 달리 전체 바디를 힙에 쌓아두었다가 다시 복사하지 않는다.
+ */
+class BodyCapturingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int maxBytes;
+    private final Predicate<HttpServletResponse> capturePredicate;
+
+    // 바디를 처음 쓸 때 생성한다. (null이면 아직 쓰지 않았거나 복사하지 않는 응답)
+    private ByteArrayOutputStream captured;
+    private Boolean capturing;
+    private long totalBytes;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    BodyCapturingResponseWrapper(HttpServletResponse response, int maxBytes, Predicate<HttpServletResponse> capturePredicate) {
+        super(response);
+        this.maxBytes = maxBytes;
+        this.capturePredicate = capturePredicate;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new CapturingWriter(super.getWriter()));
+        }
+        return writer;
+    }
+
+    /**
+     * 응답을 초기화하면 복사한 바디도 비우고, 다음에 바디를 쓸 때 복사 여부를 다시 판단한다. (예외 처리 중 상태 코드 변경 등) <br />
+     * 스트림도 초기화된 응답에서 다시 얻는다.
+     */
+    @Override
+    public void reset() {
+        super.reset();
+        outputStream = null;
+        writer = null;
+        clearCaptured();
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        clearCaptured();
+    }
+
+    /**
+     * 복사한 바디를 리턴한다. 복사하지 않은 응답이면 빈 문자열을 리턴한다.
+     */
+    String getCapturedBody() {
+        if (captured == null) {
+            return "";
+        }
+        return captured.toString(getCharset());
+    }
+
+    boolean isTruncated() {
+        return captured != null && totalBytes > captured.size();
+    }
+
+    long getTotalBytes() {
+        return totalBytes;
+    }
+
+    private boolean isCapturing() {
+        if (capturing == null) {
+            capturing = capturePredicate.test(this);
+            if (capturing) {
+                captured = new ByteArrayOutputStream(Math.min(maxBytes, 1024));
+            }
+        }
+        return capturing;
+    }
+
+    private void clearCaptured() {
+        captured = null;
+        capturing = null;
+        totalBytes = 0;
+    }
+
+    private void capture(byte[] bytes, int offset, int length) {
+        if (!isCapturing()) {
+            return;
+        }
+
+        totalBytes += length;
+        int remaining = maxBytes - captured.size();
+        if (remaining > 0) {
+            captured.write(bytes, offset, Math.min(remaining, length));
+        }
+    }
+
+    private Charset getCharset() {
+        String encoding = getCharacterEncoding();
+        return encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+
+    private class CapturingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        private CapturingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            if (isCapturing()) {
+                capture(new byte[]{(byte) b}, 0, 1);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+
+    private class CapturingWriter extends Writer {
+
+        private final Writer delegate;
+
+        private CapturingWriter(Writer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            delegate.write(cbuf, off, len);
+            if (!isCapturing()) {
+                return;
+            }
+
+            // 가득 찬 후에는 인코딩하지 않고 문자 수로 센다. (전체 크기는 근사값)
+            if (captured.size() >= maxBytes) {
+                totalBytes += len;
+                return;
+            }
+            byte[] bytes = new String(cbuf, off, len).getBytes(getCharset());
+            capture(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+}
@@ -72,4 +72,10 @@ public class ExceptionAdvice {
         return ApiResponse.unprocessableEntity(e.getErrorCode());
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ApiResponse<?> serviceUnavailableException(ServiceUnavailableException e) {
+        return ApiResponse.serviceUnavailable(e.getErrorCode());
+    }
+
 }
@@ -11,9 +11,22 @@ public class LogExclusionMatcher {
             Pattern.compile("^/actuator/.*")
     );
 
+    // 응답을 스트리밍하는 API는 바디를 복사하지 않는다.
+    private static final List<Pattern> BODY_EXCLUDED_PATTERNS = List.of(
+            Pattern.compile("^/api/v1/articles/[^/]+/comments/export$")
+    );
+
     public static boolean shouldSkipLogging(HttpServletRequest request) {
+        return matches(EXCLUDED_PATTERNS, request);
+    }
+
+    public static boolean shouldSkipBodyLogging(HttpServletRequest request) {
+        return matches(BODY_EXCLUDED_PATTERNS, request);
+    }
+
+    private static boolean matches(List<Pattern> patterns, HttpServletRequest request) {
         String uri = request.getRequestURI();
-        return EXCLUDED_PATTERNS.stream()
+        return patterns.stream()
                 .anyMatch(pattern -> pattern.matcher(uri).matches());
     }
 
@@ -21,11 +21,13 @@ public class CommonUtil {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 클라이언트 IP를 리턴한다. <br />
+     * X-Forwarded-For의 첫 번째 값은 클라이언트가 임의로 보낼 수 있으므로 직접 읽지 않는다.
+     * 톰캣 RemoteIpValve(server.forward-headers-strategy=native)가 신뢰하는 프록시가 추가한 주소를 오른쪽부터 건너뛰고,
+     * 처음 만나는 신뢰하지 않는 주소를 remoteAddr로 설정한다.
+     */
     public static String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-            return ip.split(",")[0].trim(); // 첫 번째 IP가 실제 클라이언트 IP
-        }
         return request.getRemoteAddr();
     }
 
@@ -0,0 +1,24 @@
+package com.board.global.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+public class HashUtil {
+
+    /**
+     * SHA-256 해시를 URL-safe Base64(패딩 제외, 43자)로 리턴한다. <br />
+     * 토큰 원문을 메모리나 레디스 키에 그대로 두지 않기 위해 사용한다.
+     */
+    public static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -7,6 +7,11 @@ import com.querydsl.core.types.dsl.EntityPathBase;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class QuerydslUtil {
 
@@ -37,4 +42,24 @@ public class QuerydslUtil {
         }
     }
 
+    /**
+     * 슬라이스 조회 (COUNT 쿼리 없이 1건을 더 조회하여 다음 페이지 존재 여부를 판단)
+     */
+    public static <T> Slice<T> fetchSlice(JPAQuery<T> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.fetch(), pageable, false);
+        }
+
+        List<T> dataList = query.offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = dataList.size() > pageable.getPageSize();
+        if (hasNext) {
+            dataList = new ArrayList<>(dataList.subList(0, pageable.getPageSize()));
+        }
+
+        return new SliceImpl<>(dataList, pageable, hasNext);
+    }
+
 }
@@ -0,0 +1,26 @@
+package com.board.global.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    /**
+     * 현재 트랜잭션이 커밋된 후에 실행한다. (롤백되면 실행하지 않음) <br />
+     * 트랜잭션이 없으면 즉시 실행한다.
+     */
+    public static void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+
+}
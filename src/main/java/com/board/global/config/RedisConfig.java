@@ -1,18 +1,22 @@
 package com.board.global.config;
 
 
+import com.board.global.infrastructure.keyvalue.KeyValueStore;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @EnableCaching
 @Configuration
+@Profile("!" + KeyValueStore.IN_MEMORY_PROFILE) // in-memory 프로파일에서는 레디스에 연결하지 않는다.
 public class RedisConfig {
 
     @Value("${spring.data.redis.host}")
@@ -42,4 +46,14 @@ public class RedisConfig {
         return redisTemplate;
     }
 
+    /**
+     * 레디스 pub/sub 메시지 수신 (노드 간 로컬 캐시 무효화 등)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
+
 }
@@ -1,10 +1,14 @@
 package com.board.global.config;
 
-import com.board.global.infrastructure.redis.Redis;
+import com.board.global.ratelimit.RateLimitFilter;
+import com.board.global.ratelimit.RateLimitProperties;
+import com.board.global.ratelimit.RateLimiter;
+import com.board.global.security.AuthenticationCache;
 import com.board.global.security.JwtAuthenticationFilter;
 import com.board.global.security.JwtExceptionHandlerFilter;
 import com.board.global.security.SecurityAccessDeniedHandler;
 import com.board.global.security.JwtTokenProvider;
+import com.board.global.security.RevokedTokenRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,7 +33,10 @@ public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final Redis redis;
+    private final AuthenticationCache authenticationCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
+    private final RateLimitProperties rateLimitProperties;
+    private final RateLimiter rateLimiter;
     private final ObjectMapper objectMapper;
 
     @Bean
@@ -52,8 +59,9 @@ public class SecurityConfig {
                 )
                 .exceptionHandling(exception -> exception.accessDeniedHandler(new SecurityAccessDeniedHandler(objectMapper)))
                 .userDetailsService(userDetailsService)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, redis), UsernamePasswordAuthenticationFilter.class) // UsernamePasswordAuthenticationFilter 실행 전에 JwtAuthenticationFilter를 실행
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, authenticationCache, revokedTokenRegistry), UsernamePasswordAuthenticationFilter.class) // UsernamePasswordAuthenticationFilter 실행 전에 JwtAuthenticationFilter를 실행
                 .addFilterBefore(new JwtExceptionHandlerFilter(), JwtAuthenticationFilter.class) // JwtAuthenticationFilter에서 발생한 예외를 처리하기 위해 JwtExceptionHandlerFilter를 먼저 실행한다.
+                .addFilterAfter(new RateLimitFilter(rateLimitProperties, rateLimiter, objectMapper), JwtAuthenticationFilter.class) // 인증 후 회원 ID 또는 IP 기준으로 요청 수를 제한한다.
                 .build();
     }
 
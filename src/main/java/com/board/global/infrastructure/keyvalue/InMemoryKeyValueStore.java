@@ -0,0 +1,248 @@
+package com.board.global.infrastructure.keyvalue;
+
+import com.board.global.infrastructure.redis.RefreshTokenRotation;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 노드 로컬 key-value 저장소 (단일 노드 배포, 벤치마크용) <br />
+ * Caffeine의 ConcurrentMap 뷰를 사용하며, key마다 다른 유효시간은 Caffeine의 계층형 타이밍 휠(expireAfter)이 만료시킨다. <br />
+ * 유효시간이 지난 key는 제거되기 전이라도 조회되지 않는다. <br />
+ * pub/sub 메시지는 같은 노드의 구독자에게 발행 스레드에서 바로 전달한다.
+ */
+@Slf4j
+@Component
+@Profile(KeyValueStore.IN_MEMORY_PROFILE)
+public class InMemoryKeyValueStore implements KeyValueStore {
+
+    private final ConcurrentMap<String, Entry> entries;
+    private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+    // 두 key를 함께 변경하는 compareAndRotate를 직렬화한다.
+    private final Object rotationLock = new Object();
+
+    public InMemoryKeyValueStore() {
+        this.entries = Caffeine.newBuilder()
+                .expireAfter(new EntryExpiry())
+                .scheduler(Scheduler.systemScheduler())
+                .<String, Entry>build()
+                .asMap();
+    }
+
+    @Override
+    public String get(String key) {
+        return valueOf(entries.get(key), String.class);
+    }
+
+    @Override
+    public List<String> mget(Collection<String> keys) {
+        List<String> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(get(key));
+        }
+        return values;
+    }
+
+    @Override
+    public void set(String key, String value, long timeout, TimeUnit unit) {
+        entries.put(key, new Entry(value, expiresAt(timeout, unit)));
+    }
+
+    @Override
+    public void setAll(Map<String, String> values, long timeout, TimeUnit unit) {
+        long expiresAt = expiresAt(timeout, unit);
+        values.forEach((key, value) -> entries.put(key, new Entry(value, expiresAt)));
+    }
+
+    @Override
+    public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        return entries.putIfAbsent(key, new Entry(value, expiresAt(timeout, unit))) == null;
+    }
+
+    @Override
+    public boolean setLongIfAbsent(String key, long value, long timeout, TimeUnit unit) {
+        return entries.putIfAbsent(key, new Entry(value, expiresAt(timeout, unit))) == null;
+    }
+
+    @Override
+    public Long getLong(String key) {
+        return valueOf(entries.get(key), Long.class);
+    }
+
+    @Override
+    public Long incrementIfExists(String key, long delta) {
+        Entry incremented = entries.computeIfPresent(key, (k, entry) ->
+                new Entry(String.valueOf(Long.parseLong(String.valueOf(entry.value())) + delta), entry.expiresAtNanos()));
+        return incremented != null ? Long.valueOf((String) incremented.value()) : null;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return entries.containsKey(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public long deleteAll(Collection<String> keys) {
+        long deleted = 0;
+        for (String key : keys) {
+            if (entries.remove(key) != null) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public void scan(String prefix, Consumer<String> consumer) {
+        entries.keySet().stream()
+                .filter(key -> key.startsWith(prefix))
+                .forEach(consumer);
+    }
+
+    @Override
+    public RefreshTokenRotation compareAndRotate(String key, String usedKey, String graceKey, String expectedValue, String expectedValueHash, String newValue,
+                                                 long graceMillis, long timeout, TimeUnit unit) {
+        synchronized (rotationLock) {
+            long expiresAt = expiresAt(timeout, unit);
+            Entry current = entries.get(key);
+
+            // 비교 후 다른 스레드가 set으로 변경했다면 교체하지 않는다.
+            if (current != null && expectedValue.equals(current.value())
+                    && entries.replace(key, current, new Entry(newValue, expiresAt))) {
+                entries.compute(usedKey, (k, used) -> {
+                    UsedValues usedValues = valueOf(used, UsedValues.class);
+                    return new Entry(usedValues == null ? UsedValues.of(expectedValueHash) : usedValues.add(expectedValueHash), expiresAt);
+                });
+                entries.put(graceKey, new Entry(expectedValueHash, expiresAt(graceMillis, TimeUnit.MILLISECONDS)));
+                return RefreshTokenRotation.ROTATED;
+            }
+
+            if (expectedValueHash.equals(get(graceKey))) {
+                return RefreshTokenRotation.MISMATCH;
+            }
+
+            UsedValues usedValues = valueOf(entries.get(usedKey), UsedValues.class);
+            if (usedValues != null && usedValues.hashes().contains(expectedValueHash)) {
+                if (current != null) {
+                    entries.remove(key, current);
+                }
+                return RefreshTokenRotation.REUSED;
+            }
+
+            return current == null ? RefreshTokenRotation.MISSING : RefreshTokenRotation.MISMATCH;
+        }
+    }
+
+    @Override
+    public long acquireToken(String key, long capacity, double refillPerSecond) {
+        long now = System.currentTimeMillis();
+        long bucketTtlMillis = (long) Math.ceil(capacity * 1000 / refillPerSecond);
+        long[] retryAfterMillis = new long[1];
+
+        entries.compute(key, (k, entry) -> {
+            Bucket bucket = valueOf(entry, Bucket.class);
+            double tokens = bucket == null
+                    ? capacity
+                    : Math.min(capacity, bucket.tokens() + Math.max(0, now - bucket.timestampMillis()) * refillPerSecond / 1000);
+
+            if (tokens >= 1) {
+                tokens -= 1;
+            } else {
+                retryAfterMillis[0] = (long) Math.ceil((1 - tokens) * 1000 / refillPerSecond);
+            }
+            return new Entry(new Bucket(tokens, now), expiresAt(bucketTtlMillis, TimeUnit.MILLISECONDS));
+        });
+
+        return retryAfterMillis[0];
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        listeners.getOrDefault(channel, List.of()).forEach(listener -> {
+            try {
+                listener.accept(message);
+            } catch (Exception e) {
+                log.warn("메시지 처리에 실패했습니다. [channel] : {}, [errorMessage] : {}", channel, e.getMessage());
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener, Runnable onSubscribed) {
+        listeners.computeIfAbsent(channel, c -> new CopyOnWriteArrayList<>()).add(listener);
+        onSubscribed.run();
+    }
+
+    private long expiresAt(long timeout, TimeUnit unit) {
+        return System.nanoTime() + unit.toNanos(timeout);
+    }
+
+    private static <T> T valueOf(Entry entry, Class<T> type) {
+        return entry != null && type.isInstance(entry.value()) ? type.cast(entry.value()) : null;
+    }
+
+    /**
+     * value와 만료 시각(System.nanoTime 기준)
+     */
+    private record Entry(Object value, long expiresAtNanos) {
+    }
+
+    private record Bucket(double tokens, long timestampMillis) {
+    }
+
+    private record UsedValues(Set<String> hashes) {
+
+        static UsedValues of(String hash) {
+            return new UsedValues(Set.of(hash));
+        }
+
+        UsedValues add(String hash) {
+            Set<String> added = new HashSet<>(hashes);
+            added.add(hash);
+            return new UsedValues(Set.copyOf(added));
+        }
+    }
+
+    /**
+     * 등록/변경할 때마다 entry의 만료 시각까지 남은 시간을 유효시간으로 사용한다.
+     */
+    private static class EntryExpiry implements Expiry<String, Entry> {
+
+        @Override
+        public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return Math.max(0, entry.expiresAtNanos() - currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.board.global.infrastructure.keyvalue;
+
+import com.board.global.infrastructure.redis.RefreshTokenRotation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * key-value 저장소 <br />
+ * 기본은 레디스({@code RedisKeyValueStore})를 사용하고, {@value #IN_MEMORY_PROFILE} 프로파일에서는 노드 로컬 저장소({@link InMemoryKeyValueStore})를 사용한다. <br />
+ * 유효시간이 지난 key는 존재하지 않는 것으로 보며, 모든 구현은 {@code KeyValueStoreContractTest}를 통과해야 한다.
+ */
+public interface KeyValueStore {
+
+    // 레디스 없이 단일 노드로 실행할 때 사용하는 프로파일
+    String IN_MEMORY_PROFILE = "in-memory";
+
+    String get(String key);
+
+    /**
+     * keys와 같은 순서로 value를 리턴하고, 존재하지 않는 key는 null이다.
+     */
+    List<String> mget(Collection<String> keys);
+
+    void set(String key, String value, long timeout, TimeUnit unit);
+
+    void setAll(Map<String, String> values, long timeout, TimeUnit unit);
+
+    /**
+     * key가 존재하지 않을 때만 등록하고, 등록에 성공하면 true를 리턴한다.
+     */
+    boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit);
+
+    /**
+     * key가 존재하지 않을 때만 long 값을 등록한다. (문자열로 조회하지 않는 값)
+     */
+    boolean setLongIfAbsent(String key, long value, long timeout, TimeUnit unit);
+
+    Long getLong(String key);
+
+    /**
+     * key가 존재할 때만 delta만큼 증가시키고 증가된 값을 리턴한다. (유효시간 유지) <br />
+     * key가 존재하지 않으면 null을 리턴한다.
+     */
+    Long incrementIfExists(String key, long delta);
+
+    boolean exists(String key);
+
+    void delete(String key);
+
+    /**
+     * 삭제된 key 개수를 리턴한다.
+     */
+    long deleteAll(Collection<String> keys);
+
+    /**
+     * prefix로 시작하는 key를 순회한다.
+     */
+    void scan(String prefix, Consumer<String> consumer);
+
+    /**
+     * key의 value가 expectedValue와 같으면 newValue로 교체하고, expectedValueHash를 usedKey(사용된 값 목록)에 기록한다. <br />
+     * 이미 사용된 값으로 교체를 시도하면 key를 삭제한다. 비교와 교체는 원자적으로 실행된다. <br />
+     * 단, 마지막으로 교체된 값은 graceKey에 graceMillis 동안 보관하고, 그 동안에는 key를 삭제하지 않고 MISMATCH를 리턴한다. (동시 요청)
+     */
+    RefreshTokenRotation compareAndRotate(String key, String usedKey, String graceKey, String expectedValue, String expectedValueHash, String newValue,
+                                          long graceMillis, long timeout, TimeUnit unit);
+
+    /**
+     * 토큰 버킷에서 토큰 1개를 꺼낸다. <br />
+     * 꺼냈으면 0, 토큰이 없으면 다음 토큰이 채워질 때까지 남은 시간(ms)을 리턴한다.
+     */
+    long acquireToken(String key, long capacity, double refillPerSecond);
+
+    void publish(String channel, String message);
+
+    default void subscribe(String channel, Consumer<String> listener) {
+        subscribe(channel, listener, () -> {
+        });
+    }
+
+    /**
+     * 채널을 구독한다. onSubscribed는 구독이 완료될 때마다(연결이 끊긴 후 다시 구독한 경우 포함) 실행된다. <br />
+     * 구독하지 않은 동안 발행된 메시지는 수신할 수 없으므로, 놓친 메시지를 보정하는 데 사용한다.
+     */
+    void subscribe(String channel, Consumer<String> listener, Runnable onSubscribed);
+
+}
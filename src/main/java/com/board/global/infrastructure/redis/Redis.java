@@ -1,59 +1,167 @@
 package com.board.global.infrastructure.redis;
 
-import com.board.global.security.JwtErrorCode;
-import com.board.global.security.JwtException;
+import com.board.global.common.util.HashUtil;
+import com.board.global.infrastructure.keyvalue.KeyValueStore;
 import com.board.global.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * 레디스(기본) 또는 노드 로컬 저장소를 사용하는 key-value 저장소 ({@link KeyValueStore}) <br />
+ * 리프레쉬 토큰, 로그아웃 블랙 리스트 등 key 규칙이 정해진 값을 함께 관리한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class Redis {
 
     private final String PREFIX_REDIS_KEY_REFRESH_TOKEN = "refreshToken:";
+    private static final String PREFIX_REDIS_KEY_LOGOUT_ACCESS_TOKEN = "logout:";
+    private static final String PREFIX_REDIS_KEY_USED_REFRESH_TOKEN = "refreshTokenFamily:";
+    private static final String PREFIX_REDIS_KEY_ROTATED_REFRESH_TOKEN = "refreshTokenGrace:";
+    // 같은 리프레쉬 토큰으로 동시에 재발행한 요청을 탈취로 판단하지 않는 유예시간
+    private static final long REFRESH_TOKEN_REUSE_GRACE_MILLIS = 5000;
 
-    private final RedisTemplate<String, String> redisTemplate;
+    private final KeyValueStore keyValueStore;
     private final JwtTokenProvider jwtTokenProvider;
 
     public String get(String key) {
-        return redisTemplate.opsForValue().get(key);
+        return keyValueStore.get(key);
+    }
+
+    /**
+     * 여러 key를 한 번에 조회한다. (MGET, 1회 왕복) <br />
+     * keys와 같은 순서로 value를 리턴하고, 존재하지 않는 key는 null이다.
+     */
+    public List<String> mget(Collection<String> keys) {
+        return keyValueStore.mget(keys);
     }
 
     public void set(String key, String value, long timeout, TimeUnit unit) {
-        redisTemplate.opsForValue()
-                .set(key, value, timeout, unit);
+        keyValueStore.set(key, value, timeout, unit);
+    }
+
+    /**
+     * 여러 key를 같은 유효시간으로 등록한다. (SET EX를 파이프라인으로 전송, 1회 왕복)
+     */
+    public void setAll(Map<String, String> values, long timeout, TimeUnit unit) {
+        keyValueStore.setAll(values, timeout, unit);
+    }
+
+    /**
+     * key가 존재하지 않을 때만 value를 등록한다. (SET NX PX, 1회 왕복) <br />
+     * 등록에 성공하면 true, 이미 key가 존재하면 false를 리턴한다.
+     */
+    public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        return keyValueStore.setIfAbsent(key, value, timeout, unit);
+    }
+
+    /**
+     * key가 존재하지 않을 때만 long 값을 8바이트(big-endian)로 등록한다. (SET NX PX, 1회 왕복) <br />
+     * 타임스탬프 등을 10진수 문자열 대신 고정 길이 바이너리로 저장한다.
+     */
+    public boolean setLongIfAbsent(String key, long value, long timeout, TimeUnit unit) {
+        return keyValueStore.setLongIfAbsent(key, value, timeout, unit);
+    }
+
+    /**
+     * {@link #setLongIfAbsent}로 등록한 long 값을 조회한다. key가 존재하지 않으면 null을 리턴한다.
+     */
+    public Long getLong(String key) {
+        return keyValueStore.getLong(key);
+    }
+
+    /**
+     * key가 존재할 때만 value를 delta만큼 증가시킨다. (Lua 스크립트, 1회 왕복) <br />
+     * 증가된 값을 리턴하고, key가 존재하지 않으면 null을 리턴한다.
+     */
+    public Long incrementIfExists(String key, long delta) {
+        return keyValueStore.incrementIfExists(key, delta);
+    }
+
+    /**
+     * 토큰 버킷에서 토큰 1개를 꺼낸다. (Lua 스크립트, 1회 왕복) <br />
+     * 꺼냈으면 0, 토큰이 없으면 다음 토큰이 채워질 때까지 남은 시간(ms)을 리턴한다.
+     */
+    public long acquireToken(String key, long capacity, double refillPerSecond) {
+        return keyValueStore.acquireToken(key, capacity, refillPerSecond);
     }
 
     public void delete(String key) {
-        redisTemplate.delete(key);
+        keyValueStore.delete(key);
     }
 
-    public void setRefreshToken(Long memberId, String refreshToken) {
-        redisTemplate.opsForValue()
-                .set(PREFIX_REDIS_KEY_REFRESH_TOKEN + memberId, refreshToken, jwtTokenProvider.getRefreshTokenExpirationSeconds(), TimeUnit.SECONDS);
+    public void delete(Collection<String> keys) {
+        keyValueStore.deleteAll(keys);
     }
 
-    public void compareRefreshToken(Long memberId, String refreshToken) {
-        // 해당 회원의 리프레쉬 토큰을 레디스에서 조회
-        String redisRefreshToken = redisTemplate.opsForValue()
-                .get(PREFIX_REDIS_KEY_REFRESH_TOKEN + memberId);
+    /**
+     * 많은 key를 나눠서 파이프라인으로 삭제한다. (1회 왕복) <br />
+     * 삭제된 key 개수를 리턴한다.
+     */
+    public long deleteAll(Collection<String> keys) {
+        return keyValueStore.deleteAll(keys);
+    }
+
+    public void publish(String channel, String message) {
+        keyValueStore.publish(channel, message);
+    }
+
+    public void subscribe(String channel, Consumer<String> listener) {
+        keyValueStore.subscribe(channel, listener);
+    }
+
+    public void subscribe(String channel, Consumer<String> listener, Runnable onSubscribed) {
+        keyValueStore.subscribe(channel, listener, onSubscribed);
+    }
 
-        // 클라이언트로 전달받은 리프레쉬 토큰과 비교
-        if (!refreshToken.equals(redisRefreshToken)) {
-            throw new JwtException(JwtErrorCode.INVALID);
-        }
+    public void setRefreshToken(Long memberId, String refreshToken) {
+        keyValueStore.set(PREFIX_REDIS_KEY_REFRESH_TOKEN + memberId, refreshToken, jwtTokenProvider.getRefreshTokenExpirationSeconds(), TimeUnit.SECONDS);
+    }
+
+    /**
+     * 요청 리프레쉬 토큰이 저장된 토큰과 일치하면 새 리프레쉬 토큰으로 교체한다. (Lua 스크립트, 1회 왕복) <br />
+     * 비교와 교체가 원자적으로 실행되므로 같은 리프레쉬 토큰으로 동시에 재발행해도 1건만 성공한다. <br />
+     * 방금 교체된 토큰으로 유예시간 안에 요청하면 동시 요청으로 보고 토큰 패밀리를 폐기하지 않는다. (MISMATCH)
+     */
+    public RefreshTokenRotation rotateRefreshToken(Long memberId, String refreshToken, String newRefreshToken) {
+        return keyValueStore.compareAndRotate(
+                PREFIX_REDIS_KEY_REFRESH_TOKEN + memberId,
+                PREFIX_REDIS_KEY_USED_REFRESH_TOKEN + memberId,
+                PREFIX_REDIS_KEY_ROTATED_REFRESH_TOKEN + memberId,
+                refreshToken,
+                HashUtil.sha256(refreshToken),
+                newRefreshToken,
+                REFRESH_TOKEN_REUSE_GRACE_MILLIS,
+                jwtTokenProvider.getRefreshTokenExpirationSeconds(),
+                TimeUnit.SECONDS);
     }
 
     public void deleteRefreshToken(Long memberId) {
-        redisTemplate.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN + memberId);
+        keyValueStore.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN + memberId);
+    }
+
+    /**
+     * 로그아웃된 액세스 토큰을 블랙 리스트에 등록한다. (키는 토큰 원문 대신 SHA-256 해시)
+     */
+    public void logoutAccessToken(String tokenHash) {
+        keyValueStore.set(PREFIX_REDIS_KEY_LOGOUT_ACCESS_TOKEN + tokenHash, "logout", jwtTokenProvider.getAccessTokenExpirationSeconds(), TimeUnit.SECONDS);
+    }
+
+    public boolean isLoggedOutAccessToken(String tokenHash) {
+        return keyValueStore.exists(PREFIX_REDIS_KEY_LOGOUT_ACCESS_TOKEN + tokenHash);
     }
 
-    public void logoutAccessToken(String accessToken) {
-        redisTemplate.opsForValue()
-                .set(accessToken, "logout", jwtTokenProvider.getAccessTokenExpirationSeconds(), TimeUnit.SECONDS);
+    /**
+     * 블랙 리스트에 등록된 액세스 토큰 해시를 순회한다. (레디스는 KEYS와 달리 블로킹하지 않는 SCAN 사용)
+     */
+    public void scanLoggedOutAccessTokens(Consumer<String> consumer) {
+        keyValueStore.scan(PREFIX_REDIS_KEY_LOGOUT_ACCESS_TOKEN, key -> consumer.accept(key.substring(PREFIX_REDIS_KEY_LOGOUT_ACCESS_TOKEN.length())));
     }
 
 }
@@ -0,0 +1,246 @@
+package com.board.global.infrastructure.redis;
+
+import com.board.global.infrastructure.keyvalue.KeyValueStore;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 레디스 key-value 저장소 (Lettuce) <br />
+ * 여러 노드가 같은 값을 공유하며, 여러 명령을 함께 실행해야 하는 연산은 Lua 스크립트({@link RedisScripts})로 1회 왕복에 처리한다.
+ */
+@Slf4j
+@Component
+@Profile("!" + KeyValueStore.IN_MEMORY_PROFILE)
+@RequiredArgsConstructor
+public class RedisKeyValueStore implements KeyValueStore {
+
+    // 한 번에 삭제하는 key 개수 (DEL 1건이 너무 커서 레디스를 오래 점유하지 않도록 나눠서 파이프라인으로 전송)
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    /**
+     * 스크립트를 미리 등록(SCRIPT LOAD)해두어 첫 실행부터 EVALSHA로 SHA1만 전송한다. <br />
+     * 등록에 실패해도 실행 시 EVAL로 다시 시도하므로 경고만 남긴다.
+     */
+    @PostConstruct
+    public void loadScripts() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (RedisScript<?> script : RedisScripts.ALL) {
+                    connection.scriptingCommands().scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("레디스 스크립트 등록에 실패했습니다. [errorMessage] : {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public String get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    /**
+     * MGET, 1회 왕복
+     */
+    @Override
+    public List<String> mget(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    @Override
+    public void set(String key, String value, long timeout, TimeUnit unit) {
+        redisTemplate.opsForValue()
+                .set(key, value, timeout, unit);
+    }
+
+    /**
+     * SET EX를 파이프라인으로 전송한다. (1회 왕복) <br />
+     * MSET은 유효시간을 지정할 수 없으므로 파이프라인을 사용한다.
+     */
+    @Override
+    public void setAll(Map<String, String> values, long timeout, TimeUnit unit) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        Expiration expiration = Expiration.from(timeout, unit);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            values.forEach((key, value) -> connection.stringCommands()
+                    .set(serialize(key), serialize(value), expiration, SetOption.upsert()));
+            return null;
+        });
+    }
+
+    /**
+     * SET NX PX, 1회 왕복
+     */
+    @Override
+    public boolean setIfAbsent(String key, String value, long timeout, TimeUnit unit) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(key, value, timeout, unit));
+    }
+
+    /**
+     * long 값을 10진수 문자열 대신 8바이트(big-endian)로 저장한다. (SET NX PX, 1회 왕복)
+     */
+    @Override
+    public boolean setLongIfAbsent(String key, long value, long timeout, TimeUnit unit) {
+        return Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands()
+                .set(serialize(key), ByteBuffer.allocate(Long.BYTES).putLong(value).array(), Expiration.from(timeout, unit), SetOption.ifAbsent())));
+    }
+
+    @Override
+    public Long getLong(String key) {
+        byte[] value = redisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(serialize(key)));
+        if (value == null || value.length != Long.BYTES) {
+            return null;
+        }
+        return ByteBuffer.wrap(value).getLong();
+    }
+
+    /**
+     * Lua 스크립트, 1회 왕복
+     */
+    @Override
+    public Long incrementIfExists(String key, long delta) {
+        return redisTemplate.execute(RedisScripts.INCREMENT_IF_EXISTS, List.of(key), String.valueOf(delta));
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+    /**
+     * {@value #DELETE_BATCH_SIZE}개 단위의 DEL로 나눠 파이프라인으로 삭제한다. (1회 왕복)
+     */
+    @Override
+    public long deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keyList = new ArrayList<>(keys);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int from = 0; from < keyList.size(); from += DELETE_BATCH_SIZE) {
+                byte[][] batch = keyList.subList(from, Math.min(from + DELETE_BATCH_SIZE, keyList.size())).stream()
+                        .map(this::serialize)
+                        .toArray(byte[][]::new);
+                connection.keyCommands().del(batch);
+            }
+            return null;
+        });
+
+        return results.stream()
+                .mapToLong(result -> result instanceof Long deleted ? deleted : 0)
+                .sum();
+    }
+
+    /**
+     * SCAN으로 순회한다. (KEYS와 달리 레디스를 블로킹하지 않는다.)
+     */
+    @Override
+    public void scan(String prefix, Consumer<String> consumer) {
+        ScanOptions options = ScanOptions.scanOptions()
+                .match(prefix + "*")
+                .count(1000)
+                .build();
+
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(consumer);
+        }
+    }
+
+    /**
+     * Lua 스크립트, 1회 왕복
+     */
+    @Override
+    public RefreshTokenRotation compareAndRotate(String key, String usedKey, String graceKey, String expectedValue, String expectedValueHash, String newValue,
+                                                 long graceMillis, long timeout, TimeUnit unit) {
+        Long result = redisTemplate.execute(RedisScripts.ROTATE_REFRESH_TOKEN,
+                List.of(key, usedKey, graceKey),
+                expectedValue,
+                expectedValueHash,
+                newValue,
+                String.valueOf(unit.toSeconds(timeout)),
+                String.valueOf(graceMillis));
+        return RefreshTokenRotation.of(result);
+    }
+
+    /**
+     * Lua 스크립트, 1회 왕복 (시각은 레디스 서버 시각을 사용한다.)
+     */
+    @Override
+    public long acquireToken(String key, long capacity, double refillPerSecond) {
+        Long retryAfterMillis = redisTemplate.execute(RedisScripts.TOKEN_BUCKET, List.of(key),
+                String.valueOf(capacity), String.valueOf(refillPerSecond));
+        return retryAfterMillis != null ? retryAfterMillis : 0;
+    }
+
+    @Override
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    @Override
+    public void subscribe(String channel, Consumer<String> listener, Runnable onSubscribed) {
+        redisMessageListenerContainer.addMessageListener(new ChannelListener(listener, onSubscribed), new ChannelTopic(channel));
+    }
+
+    private byte[] serialize(String value) {
+        return redisTemplate.getStringSerializer().serialize(value);
+    }
+
+    /**
+     * 리스너 컨테이너는 연결이 끊기면 다시 구독하고, 구독할 때마다 onChannelSubscribed를 호출한다.
+     */
+    private record ChannelListener(Consumer<String> listener, Runnable onSubscribed) implements MessageListener, SubscriptionListener {
+
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            listener.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            onSubscribed.run();
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+package com.board.global.infrastructure.redis;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * 레디스 Lua 스크립트 목록 <br />
+ * 애플리케이션 시작 시 모두 SCRIPT LOAD 해두고, 실행은 SHA1으로 한다. (EVALSHA) <br />
+ * 레디스가 재시작되어 스크립트 캐시가 비어 있으면 RedisTemplate이 EVAL로 다시 실행한다.
+ */
+public final class RedisScripts {
+
+    // key가 존재할 때만 INCRBY (INCRBY는 key가 없으면 0부터 시작하므로 초기화 전의 카운터가 잘못된 값으로 생성되는 것을 방지)
+    public static final RedisScript<Long> INCREMENT_IF_EXISTS = RedisScript.of(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end return nil",
+            Long.class);
+
+    /*
+     * 리프레쉬 토큰 교체 (compare-and-swap, 1회 왕복)
+     * KEYS[1] : 현재 리프레쉬 토큰, KEYS[2] : 토큰 패밀리 (이미 교체된 리프레쉬 토큰 해시 Set), KEYS[3] : 마지막으로 교체된 리프레쉬 토큰 해시
+     * ARGV[1] : 요청 리프레쉬 토큰, ARGV[2] : 요청 리프레쉬 토큰 해시, ARGV[3] : 새 리프레쉬 토큰, ARGV[4] : 유효시간(초), ARGV[5] : 유예시간(ms)
+     * 이미 교체된 토큰이 다시 사용되면 탈취로 보고 현재 리프레쉬 토큰을 삭제한다. (재로그인 필요)
+     * 단, 마지막으로 교체된 토큰은 유예시간 동안 동시 재발행 요청으로 보고 삭제하지 않는다. (MISMATCH)
+     */
+    public static final RedisScript<Long> ROTATE_REFRESH_TOKEN = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[3], 'EX', ARGV[4])
+                redis.call('SADD', KEYS[2], ARGV[2])
+                redis.call('EXPIRE', KEYS[2], ARGV[4])
+                redis.call('SET', KEYS[3], ARGV[2], 'PX', ARGV[5])
+                return 1
+            end
+            if redis.call('GET', KEYS[3]) == ARGV[2] then
+                return 2
+            end
+            if redis.call('SISMEMBER', KEYS[2], ARGV[2]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return 3
+            end
+            if not current then
+                return 0
+            end
+            return 2
+            """, Long.class);
+
+    /*
+     * 토큰 버킷 (요청 수 제한)
+     * KEYS[1] : 버킷 (Hash - tokens, ts)
+     * ARGV[1] : 버킷 크기, ARGV[2] : 초당 채워지는 토큰 수
+     * 허용하면 0, 거절하면 다음 토큰이 채워질 때까지 남은 시간(ms)을 리턴한다.
+     * 시각은 노드 간 시계 차이가 없도록 레디스 서버 시각(TIME)을 사용한다.
+     */
+    public static final RedisScript<Long> TOKEN_BUCKET = RedisScript.of("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1]) or capacity
+            local ts = tonumber(bucket[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local retryAfter = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+            else
+                retryAfter = math.ceil((1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate))
+            return retryAfter
+            """, Long.class);
+
+    public static final List<RedisScript<?>> ALL = List.of(INCREMENT_IF_EXISTS, ROTATE_REFRESH_TOKEN, TOKEN_BUCKET);
+
+    private RedisScripts() {
+    }
+
+}
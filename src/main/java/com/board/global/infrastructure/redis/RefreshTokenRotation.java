@@ -0,0 +1,28 @@
+package com.board.global.infrastructure.redis;
+
+import java.util.Arrays;
+
+/**
+ * 리프레쉬 토큰 교체(rotation) 결과 (Lua 스크립트의 리턴 코드)
+ */
+public enum RefreshTokenRotation {
+
+    MISSING(0),  // 저장된 리프레쉬 토큰이 없음 (만료, 로그아웃)
+    ROTATED(1),  // 일치하여 새 리프레쉬 토큰으로 교체
+    MISMATCH(2), // 저장된 리프레쉬 토큰과 다름
+    REUSED(3);   // 이미 교체된(사용된) 리프레쉬 토큰을 다시 사용 → 토큰 패밀리 폐기
+
+    private final long code;
+
+    RefreshTokenRotation(long code) {
+        this.code = code;
+    }
+
+    public static RefreshTokenRotation of(Long code) {
+        return Arrays.stream(values())
+                .filter(rotation -> code != null && rotation.code == code)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 리프레쉬 토큰 교체 결과입니다. [code] : " + code));
+    }
+
+}
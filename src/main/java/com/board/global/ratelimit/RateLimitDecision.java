@@ -0,0 +1,24 @@
+package com.board.global.ratelimit;
+
+/**
+ * 요청 제한 판정 결과
+ *
+ * @param allowed          허용 여부
+ * @param retryAfterMillis 거절된 경우 다음 토큰이 채워질 때까지 남은 시간
+ */
+public record RateLimitDecision(
+        boolean allowed,
+        long retryAfterMillis
+) {
+
+    private static final RateLimitDecision ALLOWED = new RateLimitDecision(true, 0);
+
+    public static RateLimitDecision allow() {
+        return ALLOWED;
+    }
+
+    public static RateLimitDecision reject(long retryAfterMillis) {
+        return new RateLimitDecision(false, retryAfterMillis);
+    }
+
+}
@@ -0,0 +1,88 @@
+package com.board.global.ratelimit;
+
+import com.board.global.common.dto.ApiResponse;
+import com.board.global.common.util.CommonUtil;
+import com.board.global.security.SecurityUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static com.board.global.common.enumeration.ErrorCode.TOO_MANY_REQUESTS;
+
+/**
+ * 경로별 정책에 따라 요청 수를 제한한다. <br />
+ * 회원 ID 기준 정책을 적용할 수 있도록 JwtAuthenticationFilter 다음에 실행하며,
+ * 비밀번호 해시, DB 조회 등 비용이 큰 처리에 도달하기 전에 초과 요청을 거절한다.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (properties.enabled()) {
+            for (RateLimitProperties.Policy policy : properties.policies()) {
+                if (!matches(policy, request)) {
+                    continue;
+                }
+
+                RateLimitDecision decision = rateLimiter.tryAcquire(policy, resolveKey(policy, request));
+                if (!decision.allowed()) {
+                    setErrorResponse(response, decision);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private boolean matches(RateLimitProperties.Policy policy, HttpServletRequest request) {
+        if (!policy.methods().isEmpty() && policy.methods().stream().noneMatch(method -> method.equalsIgnoreCase(request.getMethod()))) {
+            return false;
+        }
+
+        return policy.patterns()
+                .stream()
+                .anyMatch(pattern -> PATH_MATCHER.match(pattern, request.getRequestURI()));
+    }
+
+    private String resolveKey(RateLimitProperties.Policy policy, HttpServletRequest request) {
+        if (policy.key() == RateLimitProperties.KeyType.MEMBER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof SecurityUser securityUser) {
+                return "member:" + securityUser.getMemberId();
+            }
+        }
+
+        return "ip:" + CommonUtil.getClientIp(request);
+    }
+
+    private void setErrorResponse(HttpServletResponse response, RateLimitDecision decision) throws IOException {
+        ApiResponse<Void> apiResponse = ApiResponse.tooManyRequests(TOO_MANY_REQUESTS);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf((decision.retryAfterMillis() + 999) / 1000));
+        objectMapper.writeValue(response.getWriter(), apiResponse);
+    }
+
+}
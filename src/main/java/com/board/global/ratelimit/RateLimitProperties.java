@@ -0,0 +1,52 @@
+package com.board.global.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 정책 (토큰 버킷) <br />
+ * 요청과 일치하는 정책을 모두 적용하며, 하나라도 초과하면 429로 거절한다.
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        long localBlockMaximumSize,
+        List<Policy> policies
+) {
+
+    public RateLimitProperties {
+        localBlockMaximumSize = localBlockMaximumSize > 0 ? localBlockMaximumSize : 10_000;
+        policies = policies != null ? List.copyOf(policies) : List.of();
+    }
+
+    /**
+     * @param name            정책 이름 (레디스 키에 포함)
+     * @param methods         적용할 HTTP 메서드 (비어 있으면 모든 메서드)
+     * @param patterns        적용할 경로 패턴 (Ant 스타일)
+     * @param key             버킷을 구분하는 기준
+     * @param capacity        버킷 크기 (순간적으로 허용하는 최대 요청 수)
+     * @param refillPerSecond 초당 채워지는 토큰 수
+     */
+    public record Policy(
+            String name,
+            List<String> methods,
+            List<String> patterns,
+            KeyType key,
+            long capacity,
+            double refillPerSecond
+    ) {
+
+        public Policy {
+            methods = methods != null ? List.copyOf(methods) : List.of();
+            patterns = patterns != null ? List.copyOf(patterns) : List.of();
+            key = key != null ? key : KeyType.IP;
+        }
+    }
+
+    public enum KeyType {
+        IP,     // 클라이언트 IP
+        MEMBER  // 회원 ID (인증되지 않은 요청은 클라이언트 IP)
+    }
+
+}
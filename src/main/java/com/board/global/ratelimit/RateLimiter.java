@@ -0,0 +1,85 @@
+package com.board.global.ratelimit;
+
+import com.board.global.infrastructure.redis.Redis;
+import com.board.global.infrastructure.redis.RedisScripts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레디스 토큰 버킷으로 요청 허용 여부를 판정한다. (Lua 스크립트 {@link RedisScripts#TOKEN_BUCKET}, 판정마다 1회 왕복) <br />
+ * 거절된 키는 다음 토큰이 채워질 때까지 노드 로컬에서 바로 거절하므로, 반복되는 초과 요청은 레디스까지 가지 않는다. <br />
+ * 레디스 장애 시에는 요청을 허용한다. (fail-open)
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    public static final String PREFIX_REDIS_KEY_RATE_LIMIT = "rateLimit:";
+
+    private final Redis redis;
+
+    // 거절된 키 → 다음 토큰이 채워지는 시각(epoch millis)
+    private final Cache<String, Long> localBlocks;
+
+    public RateLimiter(Redis redis, RateLimitProperties properties) {
+        this.redis = redis;
+        this.localBlocks = Caffeine.newBuilder()
+                .maximumSize(properties.localBlockMaximumSize())
+                .expireAfter(new BlockExpiry())
+                .build();
+    }
+
+    public RateLimitDecision tryAcquire(RateLimitProperties.Policy policy, String clientKey) {
+        String key = PREFIX_REDIS_KEY_RATE_LIMIT + policy.name() + ":" + clientKey;
+        long now = System.currentTimeMillis();
+
+        // 1. 노드 로컬 : 이미 거절된 키는 토큰이 채워질 시각 전까지 레디스를 조회하지 않는다.
+        Long blockedUntil = localBlocks.getIfPresent(key);
+        if (blockedUntil != null && blockedUntil > now) {
+            return RateLimitDecision.reject(blockedUntil - now);
+        }
+
+        // 2. 레디스 토큰 버킷
+        long retryAfterMillis;
+        try {
+            retryAfterMillis = redis.acquireToken(key, policy.capacity(), policy.refillPerSecond());
+        } catch (Exception e) {
+            log.warn("요청 제한 판정에 실패하여 요청을 허용합니다. [key] : {}, [errorMessage] : {}", key, e.getMessage());
+            return RateLimitDecision.allow();
+        }
+
+        if (retryAfterMillis <= 0) {
+            return RateLimitDecision.allow();
+        }
+
+        localBlocks.put(key, now + retryAfterMillis);
+        return RateLimitDecision.reject(retryAfterMillis);
+    }
+
+    /**
+     * 토큰이 채워지는 시각에 로컬 차단 목록에서 삭제한다.
+     */
+    private static class BlockExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long blockedUntil, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, blockedUntil - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long blockedUntil, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, blockedUntil, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long blockedUntil, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.board.global.security;
+
+import org.springframework.security.core.Authentication;
+
+/**
+ * 검증된 액세스 토큰의 인증 객체와 만료 일시(epoch millis)
+ */
+public record AuthenticatedToken(
+        Authentication authentication,
+        long expiresAtMillis
+) {
+}
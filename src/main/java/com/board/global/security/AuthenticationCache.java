@@ -0,0 +1,86 @@
+package com.board.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 액세스 토큰의 인증 객체를 노드 로컬 캐시(Caffeine)에 보관한다. <br />
+ * 같은 토큰으로 반복 요청하면 서명 검증, 클레임 파싱, 블랙 리스트 조회를 생략한다. <br />
+ * 키는 토큰 원문 대신 SHA-256 해시를 사용하고, 엔트리는 min(토큰 만료 일시, 캐시 유효시간)까지 유지된다. <br />
+ * 로그아웃된 토큰은 {@link RevokedTokenRegistry}가 무효화 메시지를 수신하여 모든 노드에서 삭제한다.
+ */
+@Component
+public class AuthenticationCache {
+
+    private final boolean enabled;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public AuthenticationCache(@Value("${jwt.authentication-cache.enabled:true}") boolean enabled,
+                               @Value("${jwt.authentication-cache.maximum-size:10000}") long maximumSize,
+                               @Value("${jwt.authentication-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toMillis(ttlSeconds)))
+                .build();
+    }
+
+    /**
+     * 캐시된 인증 객체를 리턴한다. 없거나 만료되었으면 null
+     */
+    public Authentication get(String tokenHash) {
+        if (!enabled) {
+            return null;
+        }
+
+        CachedAuthentication cached = cache.getIfPresent(tokenHash);
+        return cached != null ? cached.authentication() : null;
+    }
+
+    public void put(String tokenHash, AuthenticatedToken authenticatedToken) {
+        if (!enabled) {
+            return;
+        }
+
+        cache.put(tokenHash, new CachedAuthentication(authenticatedToken.authentication(), authenticatedToken.expiresAtMillis()));
+    }
+
+    /**
+     * 현재 노드의 캐시에서 삭제한다.
+     */
+    public void invalidate(String tokenHash) {
+        cache.invalidate(tokenHash);
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 엔트리마다 min(토큰 만료 일시까지 남은 시간, 캐시 유효시간)을 유효시간으로 사용한다.
+     */
+    private record TokenExpiry(long ttlMillis) implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = Math.max(0, value.expiresAtMillis() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(Math.min(remainingMillis, ttlMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.board.global.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트를 원소로 사용하는 스레드 안전한 블룸 필터 <br />
+ * 다이제스트 자체가 균등 분포이므로 앞 16바이트를 두 해시 값으로 나누어 k개의 비트 위치를 만든다. (double hashing) <br />
+ * false positive는 있지만 false negative는 없다. 원소를 삭제할 수 없으므로 주기적으로 새로 생성한다.
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long optimalBitSize = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new AtomicLongArray((int) ((optimalBitSize + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) words.length() * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    void put(byte[] digest) {
+        long hash1 = toLong(digest, 0);
+        long hash2 = toLong(digest, Long.BYTES);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            words.accumulateAndGet((int) (index / Long.SIZE), 1L << index, (word, mask) -> word | mask);
+        }
+    }
+
+    boolean mightContain(byte[] digest) {
+        long hash1 = toLong(digest, 0);
+        long hash2 = toLong(digest, Long.BYTES);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            if ((words.get((int) (index / Long.SIZE)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+}
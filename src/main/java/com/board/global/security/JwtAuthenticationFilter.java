@@ -1,7 +1,7 @@
 package com.board.global.security;
 
 
-import com.board.global.infrastructure.redis.Redis;
+import com.board.global.common.util.HashUtil;
 import com.board.global.security.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -15,13 +15,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.GenericFilterBean;
 
 import java.io.IOException;
-import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends GenericFilterBean {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final Redis redis;
+    private final AuthenticationCache authenticationCache;
+    private final RevokedTokenRegistry revokedTokenRegistry;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
@@ -29,16 +29,16 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         // 1. Request 객체로부터 헤더에 포함된 액세스 토큰을 추출
         String token = jwtTokenProvider.resolveToken((HttpServletRequest) request);
 
-        // 2. JWT 유효성 체크
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateAccessToken(token)) {
-            // 3. 해당 액세스 토큰으로 레디스를 조회하여 로그아웃된 토큰인지 체크
-            String status = Optional.ofNullable(redis.get(token))
-                    .map(String::valueOf)
-                    .orElse(null);
+        if (StringUtils.hasText(token)) {
+            // 2. 이미 검증된 토큰이면 캐시된 Authentication 객체를 사용
+            String tokenHash = HashUtil.sha256(token);
+            Authentication authentication = authenticationCache.get(tokenHash);
 
-            if (!"logout".equals(status)) {
-                // 4. 액세스 토큰에 포함된 클레임 정보를 이용하여 Authentication 객체 생성 및 시큐리티 컨텍스트에 저장
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            if (authentication == null) {
+                authentication = authenticate(token, tokenHash);
+            }
+
+            if (authentication != null) {
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
@@ -46,4 +46,24 @@ public class JwtAuthenticationFilter extends GenericFilterBean {
         chain.doFilter(request, response);
     }
 
+    private Authentication authenticate(String token, String tokenHash) {
+        // 3. JWT 유효성 체크 및 클레임 정보를 이용하여 Authentication 객체 생성 (토큰은 1번만 파싱)
+        AuthenticatedToken authenticatedToken = jwtTokenProvider.authenticateAccessToken(token);
+
+        // 4. 로그아웃된 토큰인지 체크 (블룸 필터에 있을 때만 레디스 조회)
+        if (revokedTokenRegistry.isRevoked(tokenHash)) {
+            return null;
+        }
+
+        // 5. 토큰 만료 일시까지 캐시
+        authenticationCache.put(tokenHash, authenticatedToken);
+
+        // 6. 4번과 5번 사이에 로그아웃되었으면 캐시 삭제가 먼저 실행되었을 수 있으므로, 캐시한 후에 다시 확인한다.
+        if (revokedTokenRegistry.isRevoked(tokenHash)) {
+            authenticationCache.invalidate(tokenHash);
+            return null;
+        }
+        return authenticatedToken.authentication();
+    }
+
 }
@@ -10,7 +10,8 @@ public enum JwtErrorCode {
     EXPIRED("만료된 토큰입니다."),
     INVALID("유효하지 않는 토큰입니다."),
     UNAUTHORIZED("인증되지 않은 요청입니다."),
-    INVALID_TOKEN_USER("토큰에 포함된 사용자 정보를 찾을 수 없습니다.");
+    INVALID_TOKEN_USER("토큰에 포함된 사용자 정보를 찾을 수 없습니다."),
+    REUSED_REFRESH_TOKEN("이미 사용된 리프레쉬 토큰입니다. 다시 로그인해 주세요.");
 
     private final String message;
 
@@ -19,8 +19,11 @@ import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,6 +32,7 @@ public class JwtTokenProvider {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_TYPE = "Bearer";
+    private static final int MAX_INTERNED_AUTHORITIES = 64;
 
     @Value("${jwt.secret.access-token}")
     private String accessTokenSecret;
@@ -47,10 +51,19 @@ public class JwtTokenProvider {
     private SecretKey accessKey;
     private SecretKey refreshKey;
 
+    // 파서는 불변이고 스레드 안전하므로 키마다 1번만 생성하여 재사용한다.
+    private JwtParser accessTokenParser;
+    private JwtParser refreshTokenParser;
+
+    // 토큰의 권한 문자열(ex. "ROLE_USER")마다 권한 목록을 1번만 생성하여 공유한다.
+    private final ConcurrentMap<String, List<GrantedAuthority>> internedAuthorities = new ConcurrentHashMap<>();
+
     @PostConstruct
     void init() {
         this.accessKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(accessTokenSecret));
         this.refreshKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshTokenSecret));
+        this.accessTokenParser = Jwts.parser().verifyWith(accessKey).build();
+        this.refreshTokenParser = Jwts.parser().verifyWith(refreshKey).build();
     }
 
     /**
@@ -75,8 +88,9 @@ public class JwtTokenProvider {
                 .expiration(generateExpiration(accessTokenExpirationSeconds))
                 .compact();
 
-        // 리프레쉬 토큰 생성
+        // 리프레쉬 토큰 생성 (같은 시각에 발급해도 토큰이 달라야 재사용을 구분할 수 있으므로 jti 포함)
         String refreshToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .signWith(refreshKey)
                 .expiration(generateExpiration(refreshTokenExpirationSeconds))
                 .compact();
@@ -87,18 +101,22 @@ public class JwtTokenProvider {
                 .build();
     }
 
-    public Authentication getAuthentication(String accessToken) {
-        Claims claims = parseClaims(accessToken, accessKey);
+    /**
+     * 액세스 토큰을 1번만 파싱하여 유효성 체크와 인증 객체 생성을 함께 처리한다. <br />
+     * 인증 캐시의 유효시간을 정할 수 있도록 토큰 만료 일시를 함께 리턴한다.
+     */
+    public AuthenticatedToken authenticateAccessToken(String accessToken) {
+        Claims claims = validationToken(accessToken, accessTokenParser);
+        return new AuthenticatedToken(createAuthentication(claims), claims.getExpiration().getTime());
+    }
 
+    private Authentication createAuthentication(Claims claims) {
         if (claims.get("authorities") == null) {
             throw new BadCredentialsException("권한 정보가 없는 토큰입니다.");
         }
 
         // 클레임에서 권한 정보 가져오기
-        Collection<? extends GrantedAuthority> authorities = Arrays.stream(
-                        claims.get("authorities").toString().split(","))
-                .map(SimpleGrantedAuthority::new)
-                .collect(Collectors.toList());
+        List<GrantedAuthority> authorities = getAuthorities(claims.get("authorities").toString());
 
         UserDetails securityUser = new SecurityUser(claims.get("memberId", Long.class), claims.get("email", String.class), authorities);
         return new UsernamePasswordAuthenticationToken(securityUser, null, authorities);
@@ -106,24 +124,14 @@ public class JwtTokenProvider {
 
     public Long getMemberIdByAccessToken(String accessToken) {
         try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(accessKey)
-                    .build()
-                    .parseSignedClaims(accessToken)
-                    .getPayload();
-            return claims.get("memberId", Long.class);
+            return parseClaims(accessToken, accessTokenParser).get("memberId", Long.class);
         } catch (ExpiredJwtException e) {
             return e.getClaims().get("memberId", Long.class);
         }
     }
 
-    public boolean validateAccessToken(String accessToken) {
-        validationToken(accessToken, accessKey);
-        return true;
-    }
-
     public void validateRefreshToken(String refreshToken) {
-        validationToken(refreshToken, refreshKey);
+        validationToken(refreshToken, refreshTokenParser);
     }
 
     /**
@@ -141,9 +149,9 @@ public class JwtTokenProvider {
     /**
      * 토큰 유효성 체크
      */
-    private void validationToken(String token, SecretKey secretKey) {
+    private Claims validationToken(String token, JwtParser parser) {
         try {
-            parseClaims(token, secretKey);
+            return parseClaims(token, parser);
         } catch (MalformedJwtException e) {
             throw new JwtException(JwtErrorCode.MALFORMED);
         } catch (ExpiredJwtException e) {
@@ -158,14 +166,33 @@ public class JwtTokenProvider {
     /**
      * 토큰을 파싱한다.
      */
-    private Claims parseClaims(String token, SecretKey key) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
+    private Claims parseClaims(String token, JwtParser parser) {
+        return parser.parseSignedClaims(token)
                 .getPayload();
     }
 
+    /**
+     * 권한 문자열을 권한 목록으로 변환한다. <br />
+     * 권한 조합은 몇 가지뿐이므로 조합마다 불변 목록을 1번만 생성하고,
+     * 서명이 검증된 토큰만 전달되지만 만일을 대비하여 최대 건수를 넘으면 공유하지 않는다.
+     */
+    private List<GrantedAuthority> getAuthorities(String authorities) {
+        List<GrantedAuthority> interned = internedAuthorities.get(authorities);
+        if (interned != null) {
+            return interned;
+        }
+
+        List<GrantedAuthority> created = Arrays.stream(authorities.split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
+
+        if (internedAuthorities.size() >= MAX_INTERNED_AUTHORITIES) {
+            return created;
+        }
+        List<GrantedAuthority> previous = internedAuthorities.putIfAbsent(authorities, created);
+        return previous != null ? previous : created;
+    }
+
     /**
      * 토큰 만료 일시를 생성한다.
      */
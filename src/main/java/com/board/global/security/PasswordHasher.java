@@ -0,0 +1,100 @@
+package com.board.global.security;
+
+import com.board.global.common.exception.ServiceUnavailableException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.board.global.common.enumeration.ErrorCode.PASSWORD_HASHING_BUSY;
+
+/**
+ * 비밀번호 해시/검증(BCrypt)을 요청 스레드가 아닌 전용 스레드 풀에서 실행한다. <br />
+ * 스레드 수와 대기열 크기가 제한되어 있으므로 로그인 요청이 몰려도 CPU를 점유하는 작업은 풀 크기를 넘지 않고,
+ * 대기열이 가득 차면 즉시 503으로 거절한다. <br />
+ * DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 호출해야 한다.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${auth.password-hashing.pool-size:0}") int poolSize,
+                          @Value("${auth.password-hashing.queue-capacity:64}") int queueCapacity,
+                          @Value("${auth.password-hashing.timeout-millis:5000}") long timeoutMillis) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public String encode(String rawPassword) {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            log.warn("비밀번호 해시 대기열이 가득 차서 요청을 거절했습니다. [active] : {}, [queueDepth] : {}, [rejected] : {}",
+                    getActiveCount(), getQueueDepth(), getRejectedCount());
+            throw new ServiceUnavailableException(PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("비밀번호 해시 대기 시간을 초과했습니다. [active] : {}, [queueDepth] : {}", getActiveCount(), getQueueDepth());
+            throw new ServiceUnavailableException(PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.board.global.security;
+
+import com.board.global.infrastructure.redis.Redis;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 로그아웃된 액세스 토큰(블랙 리스트)을 관리한다. <br />
+ * 레디스에는 토큰 원문 대신 SHA-256 해시를 키로 저장하고, 노드마다 같은 해시로 만든 블룸 필터를 둔다. <br />
+ * 블룸 필터에 없는 토큰은 로그아웃되지 않은 것이 확실하므로 레디스를 조회하지 않는다. <br />
+ * 로그아웃하면 pub/sub으로 모든 노드의 블룸 필터에 추가하고 인증 캐시를 삭제하며,
+ * 블룸 필터는 원소를 삭제할 수 없으므로 주기적으로 레디스의 블랙 리스트로 다시 생성한다. <br />
+ * pub/sub 메시지는 유실될 수 있으므로(연결 끊김 등), 다시 구독할 때와 재생성 주기마다 블랙 리스트를 다시 반영한다.
+ */
+@Slf4j
+@Component
+public class RevokedTokenRegistry {
+
+    public static final String CHANNEL_ACCESS_TOKEN_REVOCATION = "accessToken:revocation";
+
+    private final Redis redis;
+    private final AuthenticationCache authenticationCache;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile BloomFilter rebuildingBloomFilter;
+
+    // 블룸 필터를 한 번도 생성하지 못했으면 모든 토큰을 레디스에서 확인한다.
+    private volatile boolean ready;
+
+    public RevokedTokenRegistry(Redis redis,
+                                AuthenticationCache authenticationCache,
+                                @Value("${jwt.revoked-token-filter.expected-insertions:100000}") long expectedInsertions,
+                                @Value("${jwt.revoked-token-filter.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redis = redis;
+        this.authenticationCache = authenticationCache;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        redis.subscribe(CHANNEL_ACCESS_TOKEN_REVOCATION, this::onMessage, this::onSubscribed);
+        rebuild();
+    }
+
+    /**
+     * 구독하지 않은 동안 놓친 무효화 메시지를 반영하기 위해 다시 생성한다. <br />
+     * 구독 스레드를 막지 않도록 별도 스레드에서 실행한다.
+     */
+    private void onSubscribed() {
+        CompletableFuture.runAsync(this::rebuild);
+    }
+
+    /**
+     * 로그아웃된 토큰인지 확인한다. 블룸 필터에 있을 때만 레디스를 조회한다.
+     */
+    public boolean isRevoked(String tokenHash) {
+        if (ready && !bloomFilter.mightContain(decode(tokenHash))) {
+            return false;
+        }
+
+        return redis.isLoggedOutAccessToken(tokenHash);
+    }
+
+    /**
+     * 블랙 리스트에 등록하고 모든 노드(자신 포함)에 무효화 메시지를 발행한다. <br />
+     * 레디스에 먼저 등록하므로 메시지를 아직 수신하지 못한 노드도 블룸 필터 재생성 시점에는 반영된다.
+     */
+    public void revoke(String tokenHash) {
+        redis.logoutAccessToken(tokenHash);
+        add(tokenHash);
+
+        try {
+            redis.publish(CHANNEL_ACCESS_TOKEN_REVOCATION, tokenHash);
+        } catch (Exception e) {
+            log.error("액세스 토큰 무효화 메시지 발행에 실패했습니다. [errorMessage] : {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지를 수신한다. <br />
+     * 블룸 필터에 먼저 추가한 후에 인증 캐시를 삭제해야 다시 캐시되지 않는다.
+     */
+    public void onMessage(String tokenHash) {
+        try {
+            add(tokenHash);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            log.warn("잘못된 액세스 토큰 무효화 메시지입니다. [message] : {}", tokenHash);
+        }
+    }
+
+    /**
+     * 레디스의 블랙 리스트로 블룸 필터를 새로 생성한다. (만료된 토큰 정리) <br />
+     * 생성하는 동안 추가되는 토큰은 새 블룸 필터에도 함께 추가한다. <br />
+     * 무효화 메시지를 놓친 토큰이 인증 캐시에 남아있을 수 있으므로 블랙 리스트의 토큰은 캐시에서도 삭제한다.
+     * 따라서 메시지를 놓친 노드도 최대 재생성 주기 안에 로그아웃이 반영된다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revoked-token-filter.rebuild-interval-millis:60000}")
+    public synchronized void rebuild() {
+        BloomFilter rebuilding = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingBloomFilter = rebuilding;
+
+        try {
+            redis.scanLoggedOutAccessTokens(tokenHash -> {
+                rebuilding.put(decode(tokenHash));
+                authenticationCache.invalidate(tokenHash);
+            });
+        } catch (Exception e) {
+            rebuildingBloomFilter = null;
+            log.error("블랙 리스트 블룸 필터 생성에 실패했습니다. 다음 주기에 다시 시도합니다. [errorMessage] : {}", e.getMessage());
+            return;
+        }
+
+        // 교체한 후에 비워야 add()에서 누락되는 토큰이 없다.
+        bloomFilter = rebuilding;
+        rebuildingBloomFilter = null;
+        ready = true;
+    }
+
+    private void add(String tokenHash) {
+        byte[] digest = decode(tokenHash);
+
+        // 생성 중인 블룸 필터를 먼저 읽는다. (null이면 이미 교체가 끝난 상태)
+        BloomFilter rebuilding = rebuildingBloomFilter;
+        if (rebuilding != null) {
+            rebuilding.put(digest);
+        }
+        bloomFilter.put(digest);
+
+        authenticationCache.invalidate(tokenHash);
+    }
+
+    private byte[] decode(String tokenHash) {
+        return Base64.getUrlDecoder().decode(tokenHash);
+    }
+
+}
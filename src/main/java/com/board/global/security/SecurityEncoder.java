@@ -8,9 +8,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class SecurityEncoder {
 
+    // DelegatingPasswordEncoder는 스레드 안전하므로 1개만 생성하여 공유한다.
+    private static final PasswordEncoder PASSWORD_ENCODER = PasswordEncoderFactories.createDelegatingPasswordEncoder();
+
     @Bean
     public static PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+        return PASSWORD_ENCODER;
     }
 
 }
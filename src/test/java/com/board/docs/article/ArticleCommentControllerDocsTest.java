@@ -0,0 +1,206 @@
+package com.board.docs.article;
+
+import com.board.domain.comment.controller.ArticleCommentController;
+import com.board.domain.comment.dto.response.CommentNodeResponse;
+import com.board.domain.comment.dto.response.CommentTreeResponse;
+import com.board.domain.comment.service.CommentExportService;
+import com.board.domain.comment.service.CommentService;
+import com.board.domain.member.dto.response.MemberResponse;
+import com.board.global.common.dto.page.PageCursor;
+import com.board.global.common.dto.page.PageInformation;
+import com.board.global.common.dto.page.PageResponse;
+import com.board.support.RestDocsSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.http.MediaType;
+import org.springframework.restdocs.payload.JsonFieldType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+public class ArticleCommentControllerDocsTest extends RestDocsSupport {
+
+    public static final String PATH = "/api/v1/articles";
+
+    private final CommentService commentService = mock(CommentService.class);
+    private final CommentExportService commentExportService = mock(CommentExportService.class);
+
+    @Override
+    protected Object initController() {
+        return new ArticleCommentController(commentService, commentExportService);
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 트리 조회 API")
+    void getCommentTree() throws Exception {
+        // given
+        MemberResponse memberResponse = new MemberResponse(1L, "khghouse@naver.com");
+        CommentTreeResponse child = new CommentTreeResponse(2L, "대댓글입니다.", false, LocalDateTime.now(), memberResponse, List.of());
+        CommentTreeResponse root = new CommentTreeResponse(1L, "댓글입니다.", false, LocalDateTime.now(), memberResponse, List.of(child));
+
+        BDDMockito.given(commentService.getCommentTree(any()))
+                .willReturn(List.of(root));
+
+        // when, then
+        mockMvc.perform(get(PATH + "/{id}/comments", 1L))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document.document(
+                        pathParameters(
+                                parameterWithName("id").description("게시글 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER)
+                                        .description("HTTP 상태 코드"),
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("요청 처리 결과"),
+                                fieldWithPath("error").type(JsonFieldType.OBJECT)
+                                        .description("에러 정보")
+                                        .optional(),
+                                fieldWithPath("data").type(JsonFieldType.ARRAY)
+                                        .description("루트 댓글 리스트 (등록순)"),
+                                fieldWithPath("data[].id").type(JsonFieldType.NUMBER)
+                                        .description("댓글 ID"),
+                                fieldWithPath("data[].content").type(JsonFieldType.STRING)
+                                        .description("댓글 내용 (삭제된 댓글은 null)")
+                                        .optional(),
+                                fieldWithPath("data[].deleted").type(JsonFieldType.BOOLEAN)
+                                        .description("삭제 여부"),
+                                fieldWithPath("data[].createdDateTime").type(JsonFieldType.STRING)
+                                        .description("등록일시 [yyyy-MM-dd HH:mm:ss]"),
+                                fieldWithPath("data[].member").type(JsonFieldType.OBJECT)
+                                        .description("회원 정보 (삭제된 댓글은 null)")
+                                        .optional(),
+                                fieldWithPath("data[].member.id").type(JsonFieldType.NUMBER)
+                                        .description("회원 ID"),
+                                fieldWithPath("data[].member.email").type(JsonFieldType.STRING)
+                                        .description("회원 이메일"),
+                                subsectionWithPath("data[].children").type(JsonFieldType.ARRAY)
+                                        .description("하위 댓글 리스트 (루트 댓글과 같은 구조, 등록순)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("게시글 루트 댓글 리스트 조회 API")
+    void getRootComments() throws Exception {
+        // given
+        MemberResponse memberResponse = new MemberResponse(1L, "khghouse@naver.com");
+        CommentNodeResponse child = new CommentNodeResponse(2L, "대댓글입니다.", false, LocalDateTime.now(), memberResponse, 1L, null);
+        CommentNodeResponse root = new CommentNodeResponse(1L, "댓글입니다.", false, LocalDateTime.now(), memberResponse, 5L, List.of(child));
+
+        PageResponse response = PageResponse.builder()
+                .pageInformation(PageInformation.ofCursor(false))
+                .contents(List.of(root))
+                .nextCursor(PageCursor.of("id", 1L, 1L).encode())
+                .build();
+
+        BDDMockito.given(commentService.getRootComments(any(), any(), anyInt()))
+                .willReturn(response);
+
+        // when, then
+        mockMvc.perform(get(PATH + "/{id}/comments/roots", 1L)
+                        .param("pageSize", "20")
+                        .param("previewSize", "3"))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document.document(
+                        pathParameters(
+                                parameterWithName("id").description("게시글 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("pageSize").description("페이지 사이즈 - default = 20")
+                                        .optional(),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor 값 (등록순으로 다음 루트 댓글부터 조회)")
+                                        .optional(),
+                                parameterWithName("previewSize").description("루트 댓글마다 함께 조회할 자식 댓글 수 (최대 10) - default = 3")
+                                        .optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER)
+                                        .description("HTTP 상태 코드"),
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("요청 처리 결과"),
+                                fieldWithPath("error").type(JsonFieldType.OBJECT)
+                                        .description("에러 정보")
+                                        .optional(),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터"),
+                                fieldWithPath("data.pageInformation").type(JsonFieldType.OBJECT)
+                                        .description("페이지 정보"),
+                                fieldWithPath("data.pageInformation.isLast").type(JsonFieldType.BOOLEAN)
+                                        .description("마지막 페이지 여부 (true : 마지막 페이지, false : 마지막 페이지 아님)"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 커서 (다음 페이지가 없으면 제외)")
+                                        .optional(),
+                                fieldWithPath("data.contents[]").type(JsonFieldType.ARRAY)
+                                        .description("루트 댓글 리스트 (등록순)"),
+                                fieldWithPath("data.contents[].id").type(JsonFieldType.NUMBER)
+                                        .description("댓글 ID"),
+                                fieldWithPath("data.contents[].content").type(JsonFieldType.STRING)
+                                        .description("댓글 내용 (삭제된 댓글은 null)")
+                                        .optional(),
+                                fieldWithPath("data.contents[].deleted").type(JsonFieldType.BOOLEAN)
+                                        .description("삭제 여부"),
+                                fieldWithPath("data.contents[].createdDateTime").type(JsonFieldType.STRING)
+                                        .description("등록일시 [yyyy-MM-dd HH:mm:ss]"),
+                                fieldWithPath("data.contents[].member").type(JsonFieldType.OBJECT)
+                                        .description("회원 정보 (삭제된 댓글은 null)")
+                                        .optional(),
+                                fieldWithPath("data.contents[].member.id").type(JsonFieldType.NUMBER)
+                                        .description("회원 ID"),
+                                fieldWithPath("data.contents[].member.email").type(JsonFieldType.STRING)
+                                        .description("회원 이메일"),
+                                fieldWithPath("data.contents[].childCount").type(JsonFieldType.NUMBER)
+                                        .description("자식 댓글 수"),
+                                subsectionWithPath("data.contents[].children").type(JsonFieldType.ARRAY)
+                                        .description("미리보기 자식 댓글 리스트 (루트 댓글과 같은 구조에서 children 제외, 등록순)")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("게시글 댓글 스레드 내보내기 API")
+    void exportComments() throws Exception {
+        // given
+        String ndjson = """
+                {"id":1,"parentId":null,"depth":0,"content":"댓글입니다.","deleted":false,"createdDateTime":"2024-03-01 12:00:00","member":{"id":1,"email":"khghouse@naver.com"}}
+                {"id":2,"parentId":1,"depth":1,"content":"대댓글입니다.","deleted":false,"createdDateTime":"2024-03-01 12:01:00","member":{"id":1,"email":"khghouse@naver.com"}}
+                """;
+        StreamingResponseBody body = outputStream -> outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+
+        BDDMockito.given(commentExportService.exportCommentThread(any()))
+                .willReturn(body);
+
+        MvcResult mvcResult = mockMvc.perform(get(PATH + "/{id}/comments/export", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when, then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().bytes(ndjson.getBytes(StandardCharsets.UTF_8)))
+                .andDo(print())
+                .andDo(document.document(
+                        pathParameters(
+                                parameterWithName("id").description("게시글 ID")
+                        )
+                ));
+    }
+
+}
@@ -7,6 +7,7 @@ import com.board.global.common.dto.page.PageResponse;
 import com.board.domain.article.service.ArticleService;
 import com.board.domain.article.dto.response.ArticleDetailResponse;
 import com.board.domain.article.dto.response.ArticleResponse;
+import com.board.domain.article.dto.response.ArticleSummaryResponse;
 import com.board.domain.member.dto.response.MemberResponse;
 import com.board.support.RestDocsSupport;
 import org.junit.jupiter.api.DisplayName;
@@ -89,9 +90,9 @@ public class ArticleControllerDocsTest extends RestDocsSupport {
     void getArticle() throws Exception {
         // given
         MemberResponse memberResponse = new MemberResponse(1L, "khghouse@naver.com");
-        ArticleDetailResponse response = new ArticleDetailResponse(1L, "게시글 제목입니다.", "게시글 내용입니다.", 10, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
+        ArticleDetailResponse response = new ArticleDetailResponse(1L, "게시글 제목입니다.", "게시글 내용입니다.", 10, 3, 5, true, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
 
-        BDDMockito.given(articleService.getArticle(anyLong(), anyString()))
+        BDDMockito.given(articleService.getArticle(anyLong(), anyString(), anyLong()))
                 .willReturn(response);
 
         // when, then
@@ -119,6 +120,12 @@ public class ArticleControllerDocsTest extends RestDocsSupport {
                                         .description("게시글 제목"),
                                 fieldWithPath("data.content").type(JsonFieldType.STRING)
                                         .description("게시글 내용"),
+                                fieldWithPath("data.likeCount").type(JsonFieldType.NUMBER)
+                                        .description("좋아요 수"),
+                                fieldWithPath("data.commentCount").type(JsonFieldType.NUMBER)
+                                        .description("댓글 수 (삭제된 댓글 제외)"),
+                                fieldWithPath("data.likedByMe").type(JsonFieldType.BOOLEAN)
+                                        .description("요청한 회원의 좋아요 여부"),
                                 fieldWithPath("data.viewCount").type(JsonFieldType.NUMBER)
                                         .description("조회 수"),
                                 fieldWithPath("data.createdDateTime").type(JsonFieldType.STRING)
@@ -219,16 +226,16 @@ public class ArticleControllerDocsTest extends RestDocsSupport {
         // given
         MemberResponse memberResponse = new MemberResponse(1L, "khghouse@naver.com");
 
-        ArticleDetailResponse articleResponse1 = new ArticleDetailResponse(1L, "게시글 제목입니다. 1", "게시글 내용입니다. 1", 156, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
-        ArticleDetailResponse articleResponse2 = new ArticleDetailResponse(2L, "게시글 제목입니다. 2", "게시글 내용입니다. 2", 954, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
-        ArticleDetailResponse articleResponse3 = new ArticleDetailResponse(3L, "게시글 제목입니다. 3", "게시글 내용입니다. 3", 382, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
+        ArticleSummaryResponse articleResponse1 = new ArticleSummaryResponse(1L, "게시글 제목입니다. 1", "게시글 내용입니다. 1", 156, 12, 4, true, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
+        ArticleSummaryResponse articleResponse2 = new ArticleSummaryResponse(2L, "게시글 제목입니다. 2", "게시글 내용입니다. 2", 954, 87, 31, false, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
+        ArticleSummaryResponse articleResponse3 = new ArticleSummaryResponse(3L, "게시글 제목입니다. 3", "게시글 내용입니다. 3", 382, 25, 0, false, LocalDateTime.now(), LocalDateTime.now(), memberResponse);
 
         PageResponse response = PageResponse.builder()
                 .pageInformation(PageInformation.of(1, 1, 3, true))
                 .contents(List.of(articleResponse3, articleResponse2, articleResponse1))
                 .build();
 
-        BDDMockito.given(articleService.getArticleList(any()))
+        BDDMockito.given(articleService.getArticleList(any(), anyBoolean(), anyLong()))
                 .willReturn(response);
 
         // when, then
@@ -248,6 +255,12 @@ public class ArticleControllerDocsTest extends RestDocsSupport {
                                 parameterWithName("sortDirection").description("정렬 순서 [asc|desc] - default = desc")
                                         .optional(),
                                 parameterWithName("sortByColumn").description("정렬 기준 컬럼 - default = id")
+                                        .optional(),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor 값 (커서가 넘어올 경우 커서 기반으로 페이징 처리, 지원 정렬 기준 : id, viewCount, createdDateTime)")
+                                        .optional(),
+                                parameterWithName("includeContent").description("게시글 내용 포함 여부 (false인 경우 내용을 제외하고 조회) - default = true")
+                                        .optional(),
+                                parameterWithName("slice").description("슬라이스 페이징 여부 (true인 경우 COUNT 쿼리 없이 다음 페이지 존재 여부만 확인하며, 총 데이터 수는 별도로 관리하는 카운터 값) - default = false")
                                         .optional()
                         ),
                         responseFields(
@@ -264,13 +277,19 @@ public class ArticleControllerDocsTest extends RestDocsSupport {
                                 fieldWithPath("data.pageInformation").type(JsonFieldType.OBJECT)
                                         .description("페이지 정보"),
                                 fieldWithPath("data.pageInformation.pageNumber").type(JsonFieldType.NUMBER)
-                                        .description("현재 페이지 번호"),
+                                        .description("현재 페이지 번호 (커서 기반 페이징인 경우 제외)")
+                                        .optional(),
                                 fieldWithPath("data.pageInformation.totalPages").type(JsonFieldType.NUMBER)
-                                        .description("총 페이지"),
+                                        .description("총 페이지 (커서 기반, 슬라이스 페이징인 경우 제외)")
+                                        .optional(),
                                 fieldWithPath("data.pageInformation.totalElements").type(JsonFieldType.NUMBER)
-                                        .description("총 데이터 수"),
+                                        .description("총 데이터 수 (커서 기반 페이징인 경우 제외)")
+                                        .optional(),
                                 fieldWithPath("data.pageInformation.isLast").type(JsonFieldType.BOOLEAN)
                                         .description("마지막 페이지 여부 (true : 마지막 페이지, false : 마지막 페이지 아님)"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 커서 (다음 페이지가 없으면 제외)")
+                                        .optional(),
                                 fieldWithPath("data.contents[]").type(JsonFieldType.ARRAY)
                                         .description("데이터 목록")
                                         .optional(),
@@ -279,7 +298,14 @@ public class ArticleControllerDocsTest extends RestDocsSupport {
                                 fieldWithPath("data.contents[].title").type(JsonFieldType.STRING)
                                         .description("게시글 제목"),
                                 fieldWithPath("data.contents[].content").type(JsonFieldType.STRING)
-                                        .description("게시글 내용"),
+                                        .description("게시글 내용 미리보기 (최대 100자, 내용을 제외하고 조회한 경우 제외)")
+                                        .optional(),
+                                fieldWithPath("data.contents[].likeCount").type(JsonFieldType.NUMBER)
+                                        .description("좋아요 수"),
+                                fieldWithPath("data.contents[].commentCount").type(JsonFieldType.NUMBER)
+                                        .description("댓글 수 (삭제된 댓글 제외)"),
+                                fieldWithPath("data.contents[].likedByMe").type(JsonFieldType.BOOLEAN)
+                                        .description("요청한 회원의 좋아요 여부"),
                                 fieldWithPath("data.contents[].viewCount").type(JsonFieldType.NUMBER)
                                         .description("조회 수"),
                                 fieldWithPath("data.contents[].createdDateTime").type(JsonFieldType.STRING)
@@ -130,7 +130,8 @@ public class ArticleLikeControllerDocsTest extends RestDocsSupport {
                                 fieldWithPath("data.pageInformation.pageNumber").type(JsonFieldType.NUMBER)
                                         .description("현재 페이지 번호"),
                                 fieldWithPath("data.pageInformation.totalPages").type(JsonFieldType.NUMBER)
-                                        .description("총 페이지"),
+                                        .description("총 페이지 (슬라이스 페이징인 경우 제외)")
+                                        .optional(),
                                 fieldWithPath("data.pageInformation.totalElements").type(JsonFieldType.NUMBER)
                                         .description("총 데이터 수"),
                                 fieldWithPath("data.pageInformation.isLast").type(JsonFieldType.BOOLEAN)
@@ -188,7 +189,8 @@ public class ArticleLikeControllerDocsTest extends RestDocsSupport {
                                 fieldWithPath("data.pageInformation.pageNumber").type(JsonFieldType.NUMBER)
                                         .description("현재 페이지 번호"),
                                 fieldWithPath("data.pageInformation.totalPages").type(JsonFieldType.NUMBER)
-                                        .description("총 페이지"),
+                                        .description("총 페이지 (슬라이스 페이징인 경우 제외)")
+                                        .optional(),
                                 fieldWithPath("data.pageInformation.totalElements").type(JsonFieldType.NUMBER)
                                         .description("총 데이터 수"),
                                 fieldWithPath("data.pageInformation.isLast").type(JsonFieldType.BOOLEAN)
@@ -3,8 +3,11 @@ package com.board.docs.article;
 import com.board.domain.comment.controller.CommentController;
 import com.board.domain.comment.dto.request.CommentRequest;
 import com.board.domain.comment.service.CommentService;
+import com.board.domain.comment.dto.response.CommentNodeResponse;
 import com.board.domain.comment.dto.response.CommentResponse;
 import com.board.domain.member.dto.response.MemberResponse;
+import com.board.global.common.dto.page.PageInformation;
+import com.board.global.common.dto.page.PageResponse;
 import com.board.support.RestDocsSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
-import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
-import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -115,6 +118,80 @@ public class CommentControllerDocsTest extends RestDocsSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("자식 댓글 리스트 조회 API")
+    void getChildComments() throws Exception {
+        // given
+        MemberResponse memberResponse = new MemberResponse(1L, "khghouse@naver.com");
+        CommentNodeResponse child1 = new CommentNodeResponse(2L, "대댓글입니다.", false, LocalDateTime.now(), memberResponse, 2L, null);
+        CommentNodeResponse child2 = new CommentNodeResponse(3L, null, true, LocalDateTime.now(), null, 1L, null);
+
+        PageResponse response = PageResponse.builder()
+                .pageInformation(PageInformation.ofCursor(true))
+                .contents(List.of(child1, child2))
+                .build();
+
+        BDDMockito.given(commentService.getChildComments(any(), any()))
+                .willReturn(response);
+
+        // when, then
+        mockMvc.perform(get(PATH + "/{id}/children", 1L)
+                        .param("pageSize", "20"))
+                .andExpect(status().isOk())
+                .andDo(print())
+                .andDo(document.document(
+                        pathParameters(
+                                parameterWithName("id").description("부모 댓글 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("pageSize").description("페이지 사이즈 - default = 20")
+                                        .optional(),
+                                parameterWithName("cursor").description("이전 응답의 nextCursor 값 (등록순으로 다음 자식 댓글부터 조회)")
+                                        .optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER)
+                                        .description("HTTP 상태 코드"),
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("요청 처리 결과"),
+                                fieldWithPath("error").type(JsonFieldType.OBJECT)
+                                        .description("에러 정보")
+                                        .optional(),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터"),
+                                fieldWithPath("data.pageInformation").type(JsonFieldType.OBJECT)
+                                        .description("페이지 정보"),
+                                fieldWithPath("data.pageInformation.isLast").type(JsonFieldType.BOOLEAN)
+                                        .description("마지막 페이지 여부 (true : 마지막 페이지, false : 마지막 페이지 아님)"),
+                                fieldWithPath("data.nextCursor").type(JsonFieldType.STRING)
+                                        .description("다음 페이지 커서 (다음 페이지가 없으면 제외)")
+                                        .optional(),
+                                fieldWithPath("data.contents[]").type(JsonFieldType.ARRAY)
+                                        .description("자식 댓글 리스트 (등록순)"),
+                                fieldWithPath("data.contents[].id").type(JsonFieldType.NUMBER)
+                                        .description("댓글 ID"),
+                                fieldWithPath("data.contents[].content").type(JsonFieldType.STRING)
+                                        .description("댓글 내용 (삭제된 댓글은 null)")
+                                        .optional(),
+                                fieldWithPath("data.contents[].deleted").type(JsonFieldType.BOOLEAN)
+                                        .description("삭제 여부"),
+                                fieldWithPath("data.contents[].createdDateTime").type(JsonFieldType.STRING)
+                                        .description("등록일시 [yyyy-MM-dd HH:mm:ss]"),
+                                fieldWithPath("data.contents[].member").type(JsonFieldType.OBJECT)
+                                        .description("회원 정보 (삭제된 댓글은 null)")
+                                        .optional(),
+                                fieldWithPath("data.contents[].member.id").type(JsonFieldType.NUMBER)
+                                        .description("회원 ID")
+                                        .optional(),
+                                fieldWithPath("data.contents[].member.email").type(JsonFieldType.STRING)
+                                        .description("회원 이메일")
+                                        .optional(),
+                                fieldWithPath("data.contents[].childCount").type(JsonFieldType.NUMBER)
+                                        .description("자식 댓글 수 (0보다 크면 같은 API로 펼쳐볼 수 있음)")
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("댓글 수정 API")
     void updateComment() throws Exception {
@@ -180,4 +257,56 @@ public class CommentControllerDocsTest extends RestDocsSupport {
                 ));
     }
 
+    @Test
+    @DisplayName("댓글 일괄 삭제 API")
+    void deleteCommentSubtree() throws Exception {
+        // when, then
+        mockMvc.perform(delete(PATH + "/{id}/subtree", 1L)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andDo(document.document(
+                        pathParameters(
+                                parameterWithName("id").description("댓글 ID (하위 댓글 전체가 함께 처리됨)")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER)
+                                        .description("HTTP 상태 코드"),
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("요청 처리 결과"),
+                                fieldWithPath("error").type(JsonFieldType.OBJECT)
+                                        .description("에러 정보")
+                                        .optional(),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터")
+                                        .optional()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("댓글 일괄 복구 API")
+    void restoreCommentSubtree() throws Exception {
+        // when, then
+        mockMvc.perform(post(PATH + "/{id}/subtree/restore", 1L)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andDo(document.document(
+                        pathParameters(
+                                parameterWithName("id").description("댓글 ID (하위 댓글 전체가 함께 처리됨)")
+                        ),
+                        responseFields(
+                                fieldWithPath("status").type(JsonFieldType.NUMBER)
+                                        .description("HTTP 상태 코드"),
+                                fieldWithPath("success").type(JsonFieldType.BOOLEAN)
+                                        .description("요청 처리 결과"),
+                                fieldWithPath("error").type(JsonFieldType.OBJECT)
+                                        .description("에러 정보")
+                                        .optional(),
+                                fieldWithPath("data").type(JsonFieldType.OBJECT)
+                                        .description("응답 데이터")
+                                        .optional()
+                        )
+                ));
+    }
+
 }
@@ -124,19 +124,6 @@ class ArticleTest {
                 .hasMessage(INVALID_WRITER.getMessage()); // 작성자가 아닙니다.
     }
 
-    @Test
-    @DisplayName("조회수가 증가됨을 확인한다.")
-    void incrementViewCount() {
-        // given
-        Article article = toEntity(false);
-
-        // when
-        article.incrementViewCount();
-
-        // then
-        assertThat(article.getViewCount()).isEqualTo(1);
-    }
-
     private Article toEntityByTitle(String title) {
         return Article.builder()
                 .title(title)
@@ -19,6 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -224,6 +225,40 @@ class ArticleLikeQueryRepositoryTest extends RepositoryTestSupport {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("회원이 좋아요를 누른 게시글 ID만 한 번에 조회한다.")
+    void findLikedArticleIds() {
+        // given
+        Article article2 = Article.builder()
+                .member(member)
+                .title("제목입니다. 2")
+                .content("내용입니다. 2")
+                .deleted(false)
+                .build();
+        articleRepository.save(article2);
+
+        articleLikeRepository.save(toEntity(member));
+
+        // when
+        Set<Long> result = articleLikeQueryRepository.findLikedArticleIds(member.getId(), List.of(article.getId(), article2.getId()));
+
+        // then
+        assertThat(result).containsExactly(article.getId());
+    }
+
+    @Test
+    @DisplayName("회원 ID가 없으면 조회하지 않고 빈 값을 리턴한다.")
+    void findLikedArticleIdsWithoutMember() {
+        // given
+        articleLikeRepository.save(toEntity(member));
+
+        // when
+        Set<Long> result = articleLikeQueryRepository.findLikedArticleIds(null, List.of(article.getId()));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     private Member toEntity(String email) {
         return Member.builder()
                 .email(email)
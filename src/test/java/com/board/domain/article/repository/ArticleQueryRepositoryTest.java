@@ -1,10 +1,12 @@
 package com.board.domain.article.repository;
 
+import com.board.domain.article.dto.response.ArticleSummaryResponse;
 import com.board.domain.article.entity.Article;
 import com.board.domain.article.repository.ArticleQueryRepository;
 import com.board.domain.article.repository.ArticleRepository;
 import com.board.domain.member.entity.Member;
 import com.board.domain.member.repository.MemberRepository;
+import com.board.global.common.dto.page.PageCursor;
 import com.board.support.RepositoryTestSupport;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ArticleQueryRepositoryTest extends RepositoryTestSupport {
 
@@ -59,7 +63,7 @@ class ArticleQueryRepositoryTest extends RepositoryTestSupport {
         Pageable pageable = PageRequest.of(0, 10, Sort.Direction.DESC, "id");
 
         // when
-        Page<Article> result = articleQueryRepository.findActiveArticles(pageable);
+        Page<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticles(pageable, true);
 
         // then
         assertThat(result.getContent()).hasSize(3)
@@ -88,7 +92,7 @@ class ArticleQueryRepositoryTest extends RepositoryTestSupport {
         Pageable pageable = PageRequest.of(0, 5, Sort.Direction.DESC, "id");
 
         // when
-        Page<Article> result = articleQueryRepository.findActiveArticles(pageable);
+        Page<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticles(pageable, true);
 
         // then
         assertThat(result.getTotalPages()).isEqualTo(4);
@@ -111,7 +115,7 @@ class ArticleQueryRepositoryTest extends RepositoryTestSupport {
         Pageable pageable = PageRequest.of(0, 5, Sort.Direction.DESC, "id");
 
         // when
-        Page<Article> result = articleQueryRepository.findActiveArticles(pageable);
+        Page<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticles(pageable, true);
 
         // then
         assertThat(result).isEmpty();
@@ -132,12 +136,145 @@ class ArticleQueryRepositoryTest extends RepositoryTestSupport {
         articleRepository.saveAll(articles);
 
         // when
-        Page<Article> result = articleQueryRepository.findActiveArticles(Pageable.unpaged());
+        Page<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticles(Pageable.unpaged(), true);
 
         // then
         assertThat(result.getContent()).hasSize(20);
     }
 
+    @Test
+    @DisplayName("슬라이스 단위로 게시글 리스트를 조회하면 1건을 더 조회하여 다음 페이지 존재 여부를 판단한다.")
+    void findActiveArticleSlice() {
+        // given
+        saveArticles(12);
+        Pageable pageable = PageRequest.of(1, 5, Sort.Direction.DESC, "id");
+
+        // when
+        Slice<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticleSlice(pageable, true);
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).hasSize(5)
+                .extracting("title")
+                .containsExactly("게시글 제목 7", "게시글 제목 6", "게시글 제목 5", "게시글 제목 4", "게시글 제목 3");
+    }
+
+    @Test
+    @DisplayName("슬라이스 단위로 마지막 페이지를 조회하면 다음 페이지가 없다.")
+    void findActiveArticleSliceLastPage() {
+        // given
+        saveArticles(10);
+        Pageable pageable = PageRequest.of(1, 5, Sort.Direction.DESC, "id");
+
+        // when
+        Slice<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticleSlice(pageable, true);
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getContent()).hasSize(5)
+                .extracting("title")
+                .containsExactly("게시글 제목 5", "게시글 제목 4", "게시글 제목 3", "게시글 제목 2", "게시글 제목 1");
+    }
+
+    @Test
+    @DisplayName("커서 없이 첫 페이지를 조회하면 다음 페이지 커서를 생성할 수 있다.")
+    void findActiveArticlesByCursorFirstPage() {
+        // given
+        saveArticles(20);
+        Pageable pageable = PageRequest.of(0, 5, Sort.Direction.DESC, "id");
+
+        // when
+        Slice<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticlesByCursor(null, pageable, true);
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(articleQueryRepository.createNextCursor(result)).isNotNull();
+        assertThat(result.getContent()).hasSize(5)
+                .extracting("title")
+                .containsExactly("게시글 제목 20", "게시글 제목 19", "게시글 제목 18", "게시글 제목 17", "게시글 제목 16");
+    }
+
+    @Test
+    @DisplayName("커서 이후의 게시글 리스트를 조회한다.")
+    void findActiveArticlesByCursor() {
+        // given
+        saveArticles(20);
+        Pageable pageable = PageRequest.of(0, 5, Sort.Direction.DESC, "id");
+        Slice<ArticleSummaryResponse> firstPage = articleQueryRepository.findActiveArticlesByCursor(null, pageable, true);
+        PageCursor cursor = PageCursor.decode(articleQueryRepository.createNextCursor(firstPage));
+
+        // when
+        Slice<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticlesByCursor(cursor, pageable, true);
+
+        // then
+        assertThat(result.hasNext()).isTrue();
+        assertThat(result.getContent()).hasSize(5)
+                .extracting("title")
+                .containsExactly("게시글 제목 15", "게시글 제목 14", "게시글 제목 13", "게시글 제목 12", "게시글 제목 11");
+    }
+
+    @Test
+    @DisplayName("커서로 마지막 페이지를 조회하면 다음 페이지 커서가 없다.")
+    void findActiveArticlesByCursorLastPage() {
+        // given
+        List<Article> articles = saveArticles(20);
+        Pageable pageable = PageRequest.of(0, 5, Sort.Direction.ASC, "id");
+        PageCursor cursor = PageCursor.of("id", articles.get(14).getId(), articles.get(14).getId());
+
+        // when
+        Slice<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticlesByCursor(cursor, pageable, true);
+
+        // then
+        assertThat(result.hasNext()).isFalse();
+        assertThat(articleQueryRepository.createNextCursor(result)).isNull();
+        assertThat(result.getContent()).hasSize(5)
+                .extracting("title")
+                .containsExactly("게시글 제목 16", "게시글 제목 17", "게시글 제목 18", "게시글 제목 19", "게시글 제목 20");
+    }
+
+    @Test
+    @DisplayName("조회수가 같은 게시글은 ID를 보조 정렬 기준으로 사용하여 커서 이후를 조회한다.")
+    void findActiveArticlesByCursorSortByViewCount() {
+        // given
+        List<Article> articles = saveArticles(6);
+        Pageable pageable = PageRequest.of(0, 3, Sort.Direction.DESC, "viewCount");
+        Slice<ArticleSummaryResponse> firstPage = articleQueryRepository.findActiveArticlesByCursor(null, pageable, true);
+        PageCursor cursor = PageCursor.decode(articleQueryRepository.createNextCursor(firstPage));
+
+        // when
+        Slice<ArticleSummaryResponse> result = articleQueryRepository.findActiveArticlesByCursor(cursor, pageable, true);
+
+        // then
+        assertThat(firstPage.getContent()).extracting("title")
+                .containsExactly("게시글 제목 6", "게시글 제목 5", "게시글 제목 4");
+        assertThat(result.hasNext()).isFalse();
+        assertThat(result.getContent()).extracting("title")
+                .containsExactly("게시글 제목 3", "게시글 제목 2", "게시글 제목 1");
+    }
+
+    @Test
+    @DisplayName("커서 페이징을 지원하지 않는 정렬 기준이면 예외가 발생한다.")
+    void findActiveArticlesByCursorUnsupportedColumn() {
+        // given
+        Pageable pageable = PageRequest.of(0, 5, Sort.Direction.DESC, "title");
+
+        // when, then
+        assertThatThrownBy(() -> articleQueryRepository.findActiveArticlesByCursor(null, pageable, true))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<Article> saveArticles(int size) {
+        List<Member> members = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> toEntity("khghouse" + i + "@daum.net"))
+                .collect(Collectors.toList());
+        memberRepository.saveAll(members);
+
+        List<Article> articles = IntStream.rangeClosed(1, size)
+                .mapToObj(i -> toEntity("게시글 제목 " + i, "게시글 내용 " + i, false, members.get(i - 1)))
+                .collect(Collectors.toList());
+        return articleRepository.saveAll(articles);
+    }
+
     private Article toEntity(String title, String content, boolean deleted, Member member) {
         return Article.builder()
                 .title(title)
@@ -0,0 +1,160 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.dto.response.ArticleDetailResponse;
+import com.board.domain.member.dto.response.MemberResponse;
+import com.board.global.infrastructure.redis.Redis;
+import com.board.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArticleCacheServiceTest extends IntegrationTestSupport {
+
+    private static final Long ARTICLE_ID = 987_654_321L;
+
+    @Autowired
+    private Redis redis;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ArticleCacheService articleCacheService;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트 프로파일에서는 캐시가 비활성화되어 있으므로 직접 생성
+        articleCacheService = createArticleCacheService();
+        redis.delete(List.of(ArticleCacheService.PREFIX_REDIS_KEY_ARTICLE_DETAIL + ARTICLE_ID, ArticleCacheService.PREFIX_REDIS_KEY_ARTICLE_VIEW_COUNT + ARTICLE_ID));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.delete(List.of(ArticleCacheService.PREFIX_REDIS_KEY_ARTICLE_DETAIL + ARTICLE_ID, ArticleCacheService.PREFIX_REDIS_KEY_ARTICLE_VIEW_COUNT + ARTICLE_ID));
+    }
+
+    @Test
+    @DisplayName("캐시 미스가 발생하면 DB에서 조회하고, 이후에는 캐시된 응답을 리턴한다.")
+    void getArticleDetail() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        ArticleDetailResponse first = articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+        ArticleDetailResponse second = articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(redis.get(ArticleCacheService.PREFIX_REDIS_KEY_ARTICLE_DETAIL + ARTICLE_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 등록한 레디스 캐시가 있으면 DB를 조회하지 않는다.")
+    void getArticleDetailFromRedis() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        ArticleCacheService anotherNode = createArticleCacheService();
+
+        // when
+        ArticleDetailResponse result = anotherNode.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(result).extracting("id", "title", "content", "viewCount", "member.email")
+                .contains(ARTICLE_ID, "제목입니다.", "내용입니다.", 10, "khghouse@daum.net");
+    }
+
+    @Test
+    @DisplayName("캐시를 무효화하면 다른 노드의 로컬 캐시까지 삭제되어 DB에서 다시 조회한다.")
+    void evict() throws Exception {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        ArticleCacheService anotherNode = createArticleCacheService();
+        articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+        anotherNode.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // when
+        articleCacheService.evict(List.of(ARTICLE_ID));
+        Thread.sleep(500); // pub/sub 메시지 수신 대기
+
+        anotherNode.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화 직후에 조회한 응답은 레디스에 등록하지 않는다. (무효화 전에 조회한 응답이 등록되는 것을 방지)")
+    void evictBlocksRedisPut() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // when
+        articleCacheService.evict(List.of(ARTICLE_ID));
+        createArticleCacheService().getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+        createArticleCacheService().getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회수 카운터가 없으면 DB로 초기화하고, 조회수가 반영되면 캐시를 무효화하지 않고 카운터만 증가시킨다.")
+    void getViewCount() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        ArticleDetailResponse cached = articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+        long initial = articleCacheService.getViewCount(cached, () -> 10L);
+
+        // when
+        articleCacheService.incrementViewCounts(Map.of(ARTICLE_ID, 5L));
+        long result = articleCacheService.getViewCount(cached, () -> 0L);
+
+        // then
+        assertThat(initial).isEqualTo(10);
+        assertThat(result).isEqualTo(15);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("요청 시점의 조회수로 덮어써도 캐시된 응답은 변경되지 않는다.")
+    void overlay() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        ArticleDetailResponse cached = articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount));
+
+        // when
+        ArticleDetailResponse result = cached.overlay(13, true);
+
+        // then
+        assertThat(result.viewCount()).isEqualTo(13);
+        assertThat(result.likedByMe()).isTrue();
+        assertThat(articleCacheService.getArticleDetail(ARTICLE_ID, () -> load(loadCount)).viewCount()).isEqualTo(10);
+    }
+
+    private ArticleCacheService createArticleCacheService() {
+        ArticleCacheService cacheService = new ArticleCacheService(redis, objectMapper, true, 100, 60, 60);
+        cacheService.subscribe();
+        return cacheService;
+    }
+
+    private ArticleDetailResponse load(AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0, 0);
+        return new ArticleDetailResponse(ARTICLE_ID, "제목입니다.", "내용입니다.", 10, 0, 0, false, now, now, new MemberResponse(1L, "khghouse@daum.net"));
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.entity.Article;
+import com.board.domain.article.entity.ArticleLike;
+import com.board.domain.article.repository.ArticleLikeRepository;
+import com.board.domain.article.repository.ArticleRepository;
+import com.board.domain.member.entity.Member;
+import com.board.domain.member.repository.MemberRepository;
+import com.board.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class ArticleLikeCountServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ArticleLikeCountService articleLikeCountService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("실제 좋아요 수와 어긋난 게시글의 좋아요 수를 보정한다.")
+    void reconcile() {
+        // given
+        Member member1 = createMember("khghouse@daum.net");
+        Member member2 = createMember("khghouse@naver.com");
+        Article article = articleRepository.save(Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member1)
+                .build());
+
+        // 좋아요 수 컬럼이 추가되기 전에 등록된 좋아요 (좋아요 수 = 0)
+        articleLikeRepository.save(ArticleLike.builder().article(article).member(member1).build());
+        articleLikeRepository.save(ArticleLike.builder().article(article).member(member2).build());
+        entityManager.flush();
+
+        jdbcTemplate.update("UPDATE article SET like_count = 0 WHERE id = ?", article.getId());
+
+        // when
+        articleLikeCountService.reconcile();
+
+        // then
+        entityManager.clear();
+        Article result = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(result.getLikeCount()).isEqualTo(2);
+    }
+
+    private Member createMember(String email) {
+        return memberRepository.save(Member.builder()
+                .email(email)
+                .password("Password12#$")
+                .build());
+    }
+
+}
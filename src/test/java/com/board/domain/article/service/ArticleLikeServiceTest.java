@@ -14,6 +14,7 @@ import com.board.global.common.dto.page.PageResponseWithExtraData;
 import com.board.global.common.dto.page.PageServiceRequest;
 import com.board.global.common.exception.NotFoundException;
 import com.board.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
 import org.assertj.core.groups.Tuple;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -45,6 +46,9 @@ class ArticleLikeServiceTest extends IntegrationTestSupport {
     @Autowired
     private ArticleRepository articleRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private Member member;
     private Article article;
 
@@ -100,6 +104,26 @@ class ArticleLikeServiceTest extends IntegrationTestSupport {
         assertThat(afterCount).isEqualTo(beforeCount);
     }
 
+    @Test
+    @DisplayName("게시글 좋아요를 추가하고 취소하면 게시글의 좋아요 수가 함께 증감한다.")
+    void likeCount() {
+        // given
+        ArticleLikeServiceRequest request = ArticleLikeServiceRequest.of(article.getId(), member.getId());
+
+        // when
+        articleLikeService.like(request);
+        articleLikeService.like(request);
+        int likeCountAfterLike = getLikeCount(article.getId());
+
+        articleLikeService.unlike(request);
+        articleLikeService.unlike(request);
+        int likeCountAfterUnlike = getLikeCount(article.getId());
+
+        // then
+        assertThat(likeCountAfterLike).isEqualTo(1);
+        assertThat(likeCountAfterUnlike).isEqualTo(0);
+    }
+
     @Test
     @DisplayName("게시글 좋아요를 추가할 때 게시글이 존재하지 않는다면 에러를 응답한다.")
     void likeNotFoundArticle() {
@@ -277,6 +301,26 @@ class ArticleLikeServiceTest extends IntegrationTestSupport {
         assertThat(result.getContents()).hasSize(0);
     }
 
+    @Test
+    @DisplayName("게시글을 로딩한 후 수정하기 전에 좋아요가 등록되어도, 게시글 수정 시 좋아요 수를 덮어쓰지 않는다.")
+    void likeWhileUpdatingArticle() {
+        // given
+        entityManager.flush(); // 좋아요 수가 0인 상태로 영속성 컨텍스트에 로딩된 게시글
+        articleLikeService.like(ArticleLikeServiceRequest.of(article.getId(), member.getId()));
+
+        // when
+        article.update("수정된 제목", "수정된 내용");
+        entityManager.flush();
+
+        // then
+        assertThat(getLikeCount(article.getId())).isEqualTo(1);
+    }
+
+    private int getLikeCount(Long articleId) {
+        entityManager.clear();
+        return entityManager.find(Article.class, articleId).getLikeCount();
+    }
+
     private Member toEntity(String email) {
         return Member.builder()
                 .email(email)
@@ -3,7 +3,10 @@ package com.board.domain.article.service;
 import com.board.domain.article.dto.request.ArticleServiceRequest;
 import com.board.domain.article.dto.response.ArticleDetailResponse;
 import com.board.domain.article.dto.response.ArticleResponse;
+import com.board.domain.article.dto.response.ArticleSummaryResponse;
 import com.board.domain.article.entity.Article;
+import com.board.domain.article.entity.ArticleLike;
+import com.board.domain.article.repository.ArticleLikeRepository;
 import com.board.domain.article.repository.ArticleRepository;
 import com.board.domain.member.entity.Member;
 import com.board.domain.member.repository.MemberRepository;
@@ -42,6 +45,9 @@ class ArticleServiceTest extends IntegrationTestSupport {
     @Autowired
     private ArticleRepository articleRepository;
 
+    @Autowired
+    private ArticleLikeRepository articleLikeRepository;
+
     @Autowired
     private MemberRepository memberRepository;
 
@@ -79,7 +85,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         Article article = createArticle(false, member);
 
         // when
-        ArticleDetailResponse result = articleService.getArticle(article.getId(), "clientIp");
+        ArticleDetailResponse result = articleService.getArticle(article.getId(), "clientIp", null);
 
         // then
         assertThat(result.id()).isEqualTo(article.getId());
@@ -92,7 +98,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
     @DisplayName("게시글 1건의 조회 결과가 없어서 예외가 발생한다.")
     void getArticleNotFound() {
         // when, then
-        assertThatThrownBy(() -> articleService.getArticle(1L, "clientIp"))
+        assertThatThrownBy(() -> articleService.getArticle(1L, "clientIp", null))
                 .isInstanceOf(NotFoundException.class)
                 .hasMessage(ARTICLE_NOT_FOUND.getMessage()); // 게시글 정보가 존재하지 않습니다.
     }
@@ -106,13 +112,14 @@ class ArticleServiceTest extends IntegrationTestSupport {
         String clientIp = "111.11.11.111";
 
         // when
-        articleService.getArticle(article.getId(), clientIp);
+        ArticleDetailResponse result = articleService.getArticle(article.getId(), clientIp, null);
 
         // then
         String key = PREFIX_REDIS_KEY_ARTICLE_VIEW + article.getId() + ":" + clientIp;
-        String lastViewTime = redis.get(key);
+        Long lastViewTime = redis.getLong(key);
 
-        assertThat(article.getViewCount()).isEqualTo(1);
+        assertThat(result.viewCount()).isEqualTo(1);
+        assertThat(article.getViewCount()).isZero(); // DB 반영은 flush 시점
         assertThat(lastViewTime).isNotNull();
 
         // tearDown
@@ -126,20 +133,20 @@ class ArticleServiceTest extends IntegrationTestSupport {
         Member member = createMember();
         Article article = createArticle(false, member);
         String clientIp = "111.11.11.111";
-        articleService.getArticle(article.getId(), clientIp);
+        articleService.getArticle(article.getId(), clientIp, null);
 
         String anotherClientIp = "222.22.22.222";
 
         // when
-        articleService.getArticle(article.getId(), anotherClientIp);
+        ArticleDetailResponse result = articleService.getArticle(article.getId(), anotherClientIp, null);
 
         // then
-        assertThat(article.getViewCount()).isEqualTo(2);
+        assertThat(result.viewCount()).isEqualTo(2);
 
         String key = PREFIX_REDIS_KEY_ARTICLE_VIEW + article.getId() + ":" + clientIp;
         String key2 = PREFIX_REDIS_KEY_ARTICLE_VIEW + article.getId() + ":" + anotherClientIp;
-        String lastViewTime = redis.get(key);
-        String lastViewTime2 = redis.get(key2);
+        Long lastViewTime = redis.getLong(key);
+        Long lastViewTime2 = redis.getLong(key2);
 
         assertThat(lastViewTime).isNotNull();
         assertThat(lastViewTime2).isNotNull();
@@ -158,15 +165,15 @@ class ArticleServiceTest extends IntegrationTestSupport {
         String clientIp = "111.11.11.111";
 
         // when
-        articleService.getArticle(article.getId(), clientIp);
-        articleService.getArticle(article.getId(), clientIp);
-        articleService.getArticle(article.getId(), clientIp);
+        articleService.getArticle(article.getId(), clientIp, null);
+        articleService.getArticle(article.getId(), clientIp, null);
+        ArticleDetailResponse result = articleService.getArticle(article.getId(), clientIp, null);
 
         // then
         String key = PREFIX_REDIS_KEY_ARTICLE_VIEW + article.getId() + ":" + clientIp;
-        String lastViewTime = redis.get(key);
+        Long lastViewTime = redis.getLong(key);
 
-        assertThat(article.getViewCount()).isEqualTo(1);
+        assertThat(result.viewCount()).isEqualTo(1);
         assertThat(lastViewTime).isNotNull();
 
         // tearDown
@@ -301,7 +308,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         entityManager.clear();
 
         // when
-        PageResponse result = articleService.getArticleList(request);
+        PageResponse result = articleService.getArticleList(request, true, null);
 
         // then
         assertThat(result.getPageInformation().getPageNumber()).isEqualTo(1);
@@ -317,6 +324,64 @@ class ArticleServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @Test
+    @DisplayName("게시글 리스트는 내용을 미리보기 길이만큼 잘라서 응답한다.")
+    void getArticleListContentPreview() {
+        // given
+        Member member = createMember();
+        articleRepository.save(toEntity("게시글 제목", "가".repeat(150), false, member));
+
+        // when
+        PageResponse result = articleService.getArticleList(PageServiceRequest.withDefault(), true, null);
+
+        // then
+        assertThat(result.getContents()).hasSize(1)
+                .extracting("content")
+                .containsExactly("가".repeat(ArticleSummaryResponse.CONTENT_PREVIEW_LENGTH));
+    }
+
+    @Test
+    @DisplayName("내용을 제외하고 게시글 리스트를 조회하면 내용 없이 응답한다.")
+    void getArticleListExcludeContent() {
+        // given
+        Member member = createMember();
+        articleRepository.save(toEntity("게시글 제목", "게시글 내용", false, member));
+
+        // when
+        PageResponse result = articleService.getArticleList(PageServiceRequest.withDefault(), false, null);
+
+        // then
+        assertThat(result.getContents()).hasSize(1)
+                .extracting("title", "content", "member.email")
+                .containsExactly(Tuple.tuple("게시글 제목", null, "khghouse@daum.net"));
+    }
+
+    @Test
+    @DisplayName("게시글 리스트를 조회하면 요청한 회원의 좋아요 여부를 함께 응답한다.")
+    void getArticleListLikedByMe() {
+        // given
+        Member member = createMember();
+        Article article1 = toEntity("게시글 제목 1", "게시글 내용 1", false, member);
+        Article article2 = toEntity("게시글 제목 2", "게시글 내용 2", false, member);
+        articleRepository.saveAll(List.of(article1, article2));
+
+        articleLikeRepository.save(ArticleLike.builder()
+                .article(article1)
+                .member(member)
+                .build());
+
+        // when
+        PageResponse result = articleService.getArticleList(PageServiceRequest.withDefault(), true, member.getId());
+
+        // then
+        assertThat(result.getContents()).hasSize(2)
+                .extracting("title", "likedByMe")
+                .containsExactly(
+                        Tuple.tuple("게시글 제목 2", false),
+                        Tuple.tuple("게시글 제목 1", true)
+                );
+    }
+
     @Test
     @DisplayName("리스트 사이즈가 0이면 빈 배열을 응답한다.")
     void getArticleListSizeZero() {
@@ -324,7 +389,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.withDefault();
 
         // when
-        PageResponse result = articleService.getArticleList(request);
+        PageResponse result = articleService.getArticleList(request, true, null);
 
         // then
         assertThat(result.getPageInformation().getPageNumber()).isEqualTo(1);
@@ -351,7 +416,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.of(1, 5, "desc", "id");
 
         // when
-        PageResponse result = articleService.getArticleList(request);
+        PageResponse result = articleService.getArticleList(request, true, null);
 
         // then
         assertThat(result.getPageInformation().getPageNumber()).isEqualTo(1);
@@ -386,7 +451,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.of(5, 4, "desc", "id");
 
         // when
-        PageResponse result = articleService.getArticleList(request);
+        PageResponse result = articleService.getArticleList(request, true, null);
 
         // then
         assertThat(result.getPageInformation().getPageNumber()).isEqualTo(5);
@@ -403,6 +468,40 @@ class ArticleServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @Test
+    @DisplayName("슬라이스 모드로 게시글 리스트를 조회하면 총 페이지 없이 카운터 값으로 총 데이터 수를 응답한다.")
+    void getArticleListSlice() {
+        // given
+        redis.delete(ArticleCountService.REDIS_KEY_ACTIVE_ARTICLE_COUNT);
+
+        List<Member> members = IntStream.range(1, 21)
+                .mapToObj(i -> toEntity("khghouse" + i + "@daum.net"))
+                .collect(Collectors.toList());
+        memberRepository.saveAll(members);
+
+        List<Article> articles = IntStream.range(1, 21)
+                .mapToObj(i -> toEntity("게시글 제목 " + i, "게시글 내용 " + i, false, members.get(i - 1)))
+                .collect(Collectors.toList());
+        articleRepository.saveAll(articles);
+
+        PageServiceRequest request = PageServiceRequest.of(2, 5, "desc", "id", null, true);
+
+        // when
+        PageResponse result = articleService.getArticleList(request, true, null);
+
+        // then
+        assertThat(result.getPageInformation().getPageNumber()).isEqualTo(2);
+        assertThat(result.getPageInformation().getTotalPages()).isNull();
+        assertThat(result.getPageInformation().getTotalElements()).isEqualTo(20);
+        assertThat(result.getPageInformation().getIsLast()).isFalse();
+        assertThat(result.getContents()).hasSize(5)
+                .extracting("title")
+                .containsExactly("게시글 제목 15", "게시글 제목 14", "게시글 제목 13", "게시글 제목 12", "게시글 제목 11");
+
+        // tearDown
+        redis.delete(ArticleCountService.REDIS_KEY_ACTIVE_ARTICLE_COUNT);
+    }
+
     @Test
     @DisplayName("ID 오름차순 정렬된 게시글 리스트의 조회하고 검증한다.")
     void getArticleListPageablOrderByIdAsc() {
@@ -420,7 +519,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.withPageAndSortDirection(2, 10, "asc");
 
         // when
-        PageResponse result = articleService.getArticleList(request);
+        PageResponse result = articleService.getArticleList(request, true, null);
 
         // then
         assertThat(result.getPageInformation().getPageNumber()).isEqualTo(2);
@@ -443,6 +542,47 @@ class ArticleServiceTest extends IntegrationTestSupport {
                 );
     }
 
+    @Test
+    @DisplayName("응답받은 커서로 다음 게시글 리스트를 조회하고 검증한다.")
+    void getArticleListByCursor() {
+        // given
+        List<Member> members = IntStream.range(1, 11)
+                .mapToObj(i -> toEntity("khghouse" + i + "@daum.net"))
+                .collect(Collectors.toList());
+        memberRepository.saveAll(members);
+
+        List<Article> articles = IntStream.range(1, 11)
+                .mapToObj(i -> toEntity("게시글 제목 " + i, "게시글 내용 " + i, false, members.get(i - 1)))
+                .collect(Collectors.toList());
+        articleRepository.saveAll(articles);
+
+        PageResponse firstPage = articleService.getArticleList(PageServiceRequest.of(1, 4, "desc", "id"), true, null);
+        PageServiceRequest request = PageServiceRequest.of(null, 4, "desc", "id", firstPage.getNextCursor());
+
+        // when
+        PageResponse result = articleService.getArticleList(request, true, null);
+
+        // then
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThat(result.getNextCursor()).isNotNull();
+        assertThat(result.getPageInformation().getIsLast()).isFalse();
+        assertThat(result.getPageInformation().getTotalElements()).isNull();
+        assertThat(result.getContents()).hasSize(4)
+                .extracting("title")
+                .containsExactly("게시글 제목 6", "게시글 제목 5", "게시글 제목 4", "게시글 제목 3");
+    }
+
+    @Test
+    @DisplayName("게시글 리스트 조회 시, 커서 값이 올바르지 않아 예외가 발생한다.")
+    void getArticleListInvalidCursor() {
+        // given
+        PageServiceRequest request = PageServiceRequest.of(null, 4, "desc", "id", "invalid-cursor");
+
+        // when, then
+        assertThatThrownBy(() -> articleService.getArticleList(request, true, null))
+                .isInstanceOf(UnprocessableEntityException.class);
+    }
+
     @Test
     @DisplayName("게시글 리스트 조회 시, 페이지 번호가 1 미만이어서 예외가 발생한다.")
     void getArticleListPageableExceptionPageNumber() {
@@ -450,7 +590,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.withPageNumber(0);
 
         // when, then
-        assertThatThrownBy(() -> articleService.getArticleList(request))
+        assertThatThrownBy(() -> articleService.getArticleList(request, true, null))
                 .isInstanceOf(UnprocessableEntityException.class);
     }
 
@@ -461,7 +601,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.withPageNumberAndSortByColumn(1, "idd");
 
         // when, then
-        assertThatThrownBy(() -> articleService.getArticleList(request))
+        assertThatThrownBy(() -> articleService.getArticleList(request, true, null))
                 .isInstanceOf(UnprocessableEntityException.class);
     }
 
@@ -472,7 +612,7 @@ class ArticleServiceTest extends IntegrationTestSupport {
         PageServiceRequest request = PageServiceRequest.withPageNumberAndSortDirection(1, "descc");
 
         // when, then
-        assertThatThrownBy(() -> articleService.getArticleList(request))
+        assertThatThrownBy(() -> articleService.getArticleList(request, true, null))
                 .isInstanceOf(UnprocessableEntityException.class);
     }
 
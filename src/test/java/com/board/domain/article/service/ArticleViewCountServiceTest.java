@@ -0,0 +1,162 @@
+package com.board.domain.article.service;
+
+import com.board.domain.article.dto.request.ArticleServiceRequest;
+import com.board.domain.article.entity.Article;
+import com.board.domain.article.repository.ArticleRepository;
+import com.board.domain.member.entity.Member;
+import com.board.domain.member.repository.MemberRepository;
+import com.board.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class ArticleViewCountServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private ArticleViewCountService articleViewCountService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("조회수를 증가시키면 DB에 반영되기 전까지 메모리에 누적된다.")
+    void increment() {
+        // given
+        Article article = createArticle();
+
+        // when
+        articleViewCountService.increment(article.getId());
+        articleViewCountService.increment(article.getId());
+
+        // then
+        assertThat(articleViewCountService.getPendingViewCount(article.getId())).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 조회수를 증가시켜도 누락되지 않는다.")
+    void incrementConcurrently() throws Exception {
+        // given
+        Article article = createArticle();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        IntStream.range(0, 1000)
+                .forEach(i -> executorService.submit(() -> articleViewCountService.increment(article.getId())));
+        executorService.shutdown();
+        executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(articleViewCountService.getPendingViewCount(article.getId())).isEqualTo(1000);
+
+        // tearDown
+        articleViewCountService.flush();
+    }
+
+    @Test
+    @DisplayName("누적된 조회수를 DB에 일괄 반영하고 메모리를 비운다.")
+    void flush() {
+        // given
+        Article article1 = createArticle();
+        Article article2 = createArticle();
+        entityManager.flush();
+
+        articleViewCountService.increment(article1.getId());
+        articleViewCountService.increment(article1.getId());
+        articleViewCountService.increment(article1.getId());
+        articleViewCountService.increment(article2.getId());
+
+        // when
+        articleViewCountService.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(articleRepository.findById(article1.getId()).orElseThrow().getViewCount()).isEqualTo(3);
+        assertThat(articleRepository.findById(article2.getId()).orElseThrow().getViewCount()).isEqualTo(1);
+        assertThat(articleViewCountService.getPendingViewCount(article1.getId())).isZero();
+        assertThat(articleViewCountService.getPendingViewCount(article2.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("조회수를 반영하는 동안 동시에 증가시켜도 누락되지 않는다.")
+    void flushConcurrently() throws Exception {
+        // given
+        Article article = createArticle();
+        entityManager.flush();
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        // when
+        IntStream.range(0, 1000)
+                .forEach(i -> executorService.submit(() -> articleViewCountService.increment(article.getId())));
+        executorService.shutdown();
+        while (!executorService.isTerminated()) {
+            articleViewCountService.flush();
+        }
+        articleViewCountService.flush();
+        entityManager.clear();
+
+        // then
+        assertThat(articleRepository.findById(article.getId()).orElseThrow().getViewCount()).isEqualTo(1000);
+        assertThat(articleViewCountService.getPendingViewCount(article.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("게시글을 로딩한 후 수정하기 전에 조회수가 반영되어도, 게시글 수정 시 반영된 조회수를 덮어쓰지 않는다.")
+    void flushWhileUpdatingArticle() {
+        // given
+        Article article = createArticle(); // 조회수가 0인 상태로 영속성 컨텍스트에 로딩된 게시글
+        entityManager.flush();
+
+        articleViewCountService.increment(article.getId());
+        articleViewCountService.increment(article.getId());
+        articleViewCountService.increment(article.getId());
+        articleViewCountService.flush();
+
+        ArticleServiceRequest request = ArticleServiceRequest.of(article.getId(), "수정된 제목", "수정된 내용");
+
+        // when
+        articleService.updateArticle(request, article.getMember().getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // then
+        Article result = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(result.getTitle()).isEqualTo("수정된 제목");
+        assertThat(result.getViewCount()).isEqualTo(3);
+    }
+
+    private Article createArticle() {
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .build();
+        memberRepository.save(member);
+
+        Article article = Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member)
+                .build();
+        return articleRepository.save(article);
+    }
+
+}
@@ -7,15 +7,19 @@ import com.board.domain.member.entity.Member;
 import com.board.domain.member.repository.MemberRepository;
 import com.board.global.common.exception.ConflictException;
 import com.board.global.common.exception.UnauthorizedException;
+import com.board.global.common.util.HashUtil;
 import com.board.global.infrastructure.redis.Redis;
 import com.board.global.security.JwtException;
 import com.board.global.security.JwtToken;
 import com.board.global.security.JwtTokenProvider;
+import com.board.global.security.SecurityUser;
 import com.board.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -23,8 +27,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import static com.board.global.common.enumeration.ErrorCode.EMAIL_ALREADY_REGISTERED;
 import static com.board.global.common.enumeration.ErrorCode.INVALID_CREDENTIALS;
+import static com.board.global.security.JwtErrorCode.INVALID;
 import static com.board.global.security.JwtErrorCode.INVALID_TOKEN_USER;
 import static com.board.global.security.JwtErrorCode.MALFORMED;
+import static com.board.global.security.JwtErrorCode.REUSED_REFRESH_TOKEN;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -44,10 +50,10 @@ class AuthServiceTest extends IntegrationTestSupport {
     private JwtTokenProvider jwtTokenProvider;
 
     @Autowired
-    private AuthenticationProvider authenticationProvider;
+    private Redis redis;
 
     @Autowired
-    private Redis redis;
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("회원 가입에 성공한다.")
@@ -61,6 +67,7 @@ class AuthServiceTest extends IntegrationTestSupport {
         // then
         Member result = memberRepository.findByEmail("khghouse@daum.net").orElseThrow();
         assertThat(result).isNotNull();
+        assertThat(passwordEncoder.matches("Password12#$", result.getPassword())).isTrue();
     }
 
     @Test
@@ -104,6 +111,37 @@ class AuthServiceTest extends IntegrationTestSupport {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    @DisplayName("로그인할 때 회원은 DB에서 1번만 조회한다.")
+    void loginWithSingleMemberLookup() {
+        // given
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .deleted(false)
+                .build();
+
+        memberRepository.save(member);
+
+        AuthServiceRequest request = AuthServiceRequest.of("khghouse@daum.net", "Password12#$");
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        JwtToken result = authService.login(request);
+
+        // then
+        assertThat(result).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(jwtTokenProvider.getMemberIdByAccessToken(result.getAccessToken())).isEqualTo(member.getId());
+
+        // tearDown
+        statistics.setStatisticsEnabled(false);
+        redis.deleteRefreshToken(member.getId());
+    }
+
     @Test
     @DisplayName("존재하지 않는 계정으로 로그인하면 예외가 발생한다.")
     void loginNotExistMember() {
@@ -148,8 +186,7 @@ class AuthServiceTest extends IntegrationTestSupport {
 
         memberRepository.save(member);
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("khghouse@daum.net", null);
-        Authentication authenticate = authenticationProvider.authenticate(authenticationToken);
+        Authentication authenticate = createAuthentication(member);
         JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
 
         redis.setRefreshToken(member.getId(), jwtToken.getRefreshToken());
@@ -167,6 +204,73 @@ class AuthServiceTest extends IntegrationTestSupport {
         redis.deleteRefreshToken(member.getId());
     }
 
+    @Test
+    @DisplayName("이미 사용된 리프레쉬 토큰으로 재발행하면 예외가 발생하고, 새로 발급된 리프레쉬 토큰도 폐기된다.")
+    void reissueTokenReused() {
+        // given
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password(passwordEncoder.encode("Password12#$"))
+                .deleted(false)
+                .build();
+
+        memberRepository.save(member);
+
+        Authentication authenticate = createAuthentication(member);
+        JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
+
+        redis.setRefreshToken(member.getId(), jwtToken.getRefreshToken());
+
+        ReissueServiceRequest request = ReissueServiceRequest.of(jwtToken.getAccessToken(), jwtToken.getRefreshToken());
+        JwtToken reissued = authService.reissueToken(request);
+        redis.delete("refreshTokenGrace:" + member.getId()); // 동시 재발행 유예시간 경과
+
+        // when, then
+        assertThatThrownBy(() -> authService.reissueToken(request))
+                .isInstanceOf(JwtException.class)
+                .hasMessage(REUSED_REFRESH_TOKEN.getMessage()); // 이미 사용된 리프레쉬 토큰입니다. 다시 로그인해 주세요.
+
+        ReissueServiceRequest reissuedRequest = ReissueServiceRequest.of(reissued.getAccessToken(), reissued.getRefreshToken());
+        assertThatThrownBy(() -> authService.reissueToken(reissuedRequest))
+                .isInstanceOf(JwtException.class)
+                .hasMessage(INVALID.getMessage()); // 유효하지 않는 토큰입니다.
+
+        // tearDown
+        redis.deleteRefreshToken(member.getId());
+    }
+
+    @Test
+    @DisplayName("같은 리프레쉬 토큰으로 동시에 재발행하면 늦은 요청만 실패하고, 먼저 발급된 리프레쉬 토큰은 폐기되지 않는다.")
+    void reissueTokenConcurrently() {
+        // given
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password(passwordEncoder.encode("Password12#$"))
+                .deleted(false)
+                .build();
+
+        memberRepository.save(member);
+
+        Authentication authenticate = createAuthentication(member);
+        JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
+
+        redis.setRefreshToken(member.getId(), jwtToken.getRefreshToken());
+
+        ReissueServiceRequest request = ReissueServiceRequest.of(jwtToken.getAccessToken(), jwtToken.getRefreshToken());
+        JwtToken reissued = authService.reissueToken(request);
+
+        // when, then
+        assertThatThrownBy(() -> authService.reissueToken(request))
+                .isInstanceOf(JwtException.class)
+                .hasMessage(INVALID.getMessage()); // 유효하지 않는 토큰입니다.
+
+        ReissueServiceRequest reissuedRequest = ReissueServiceRequest.of(reissued.getAccessToken(), reissued.getRefreshToken());
+        assertThat(authService.reissueToken(reissuedRequest).getRefreshToken()).isNotNull();
+
+        // tearDown
+        redis.deleteRefreshToken(member.getId());
+    }
+
     @Test
     @DisplayName("토큰을 재발행하지만 존재하지 않는 계정으로 예외가 발생한다.")
     void reissueTokenNotExistMember() {
@@ -179,8 +283,7 @@ class AuthServiceTest extends IntegrationTestSupport {
 
         memberRepository.save(member);
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("khghouse@daum.net", null);
-        Authentication authenticate = authenticationProvider.authenticate(authenticationToken);
+        Authentication authenticate = createAuthentication(member);
         JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
 
         memberRepository.delete(member);
@@ -211,7 +314,7 @@ class AuthServiceTest extends IntegrationTestSupport {
     }
 
     @Test
-    @DisplayName("로그아웃하면 레디스에 저장된 액세스 토큰은 logout 되고, 리프레쉬 토큰은 삭제된다.")
+    @DisplayName("로그아웃하면 액세스 토큰의 해시가 블랙 리스트에 등록되고, 리프레쉬 토큰은 삭제된다.")
     void logout() {
         // given
         Member member = Member.builder()
@@ -222,8 +325,7 @@ class AuthServiceTest extends IntegrationTestSupport {
 
         memberRepository.save(member);
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("khghouse@daum.net", null);
-        Authentication authenticate = authenticationProvider.authenticate(authenticationToken);
+        Authentication authenticate = createAuthentication(member);
         JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
 
         redis.setRefreshToken(member.getId(), jwtToken.getRefreshToken());
@@ -233,7 +335,8 @@ class AuthServiceTest extends IntegrationTestSupport {
         authService.logout(accessToken);
 
         // then
-        assertThat(redis.get(accessToken)).isEqualTo("logout");
+        assertThat(redis.isLoggedOutAccessToken(HashUtil.sha256(accessToken))).isTrue();
+        assertThat(redis.get(accessToken)).isNull();
         assertThat(redis.get("refreshToken:" + member.getId())).isNull();
 
         // tearDown
@@ -252,4 +355,9 @@ class AuthServiceTest extends IntegrationTestSupport {
                 .hasMessage(MALFORMED.getMessage()); // 손상된 토큰입니다.
     }
 
-}
\ No newline at end of file
+    private Authentication createAuthentication(Member member) {
+        SecurityUser securityUser = new SecurityUser(member);
+        return new UsernamePasswordAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+    }
+
+}
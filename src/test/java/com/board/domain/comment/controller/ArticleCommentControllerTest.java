@@ -0,0 +1,48 @@
+package com.board.domain.comment.controller;
+
+import com.board.support.ControllerTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ArticleCommentControllerTest extends ControllerTestSupport {
+
+    public static final String PATH = "/api/v1/articles";
+
+    @Test
+    @DisplayName("댓글 스레드를 로깅 필터를 거쳐 NDJSON으로 끝까지 스트리밍한다.")
+    void exportComments() throws Exception {
+        // given
+        String ndjson = """
+                {"id":1,"parentId":null,"depth":0,"content":"댓글입니다.","deleted":false}
+                {"id":2,"parentId":1,"depth":1,"content":"대댓글입니다.","deleted":false}
+                """;
+        StreamingResponseBody body = outputStream -> outputStream.write(ndjson.getBytes(StandardCharsets.UTF_8));
+
+        BDDMockito.given(commentExportService.exportCommentThread(any()))
+                .willReturn(body);
+
+        MvcResult mvcResult = mockMvc.perform(get(PATH + "/{id}/comments/export", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // when, then
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().bytes(ndjson.getBytes(StandardCharsets.UTF_8)));
+    }
+
+}
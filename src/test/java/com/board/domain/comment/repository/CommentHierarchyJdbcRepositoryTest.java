@@ -0,0 +1,114 @@
+package com.board.domain.comment.repository;
+
+import com.board.domain.article.entity.Article;
+import com.board.domain.comment.dto.response.CommentHierarchyResponse;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.entity.CommentHierarchy;
+import com.board.domain.member.entity.Member;
+import com.board.support.RepositoryTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CommentHierarchyJdbcRepositoryTest extends RepositoryTestSupport {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Autowired
+    private CommentHierarchyRepository commentHierarchyRepository;
+
+    private CommentHierarchyJdbcRepository commentHierarchyJdbcRepository;
+
+    private Comment rootComment;
+    private Comment childComment;
+    private Comment grandChildComment;
+
+    @BeforeEach
+    void setUp() {
+        commentHierarchyJdbcRepository = new CommentHierarchyJdbcRepository(jdbcTemplate, namedParameterJdbcTemplate);
+
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .build();
+        testEntityManager.persist(member);
+
+        Article article = Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member)
+                .build();
+        testEntityManager.persist(article);
+
+        rootComment = testEntityManager.persist(Comment.of(article, member, "댓글입니다."));
+        childComment = testEntityManager.persist(Comment.of(article, member, "대댓글입니다."));
+        grandChildComment = testEntityManager.persist(Comment.of(article, member, "대대댓글입니다."));
+
+        // JDBC로 등록하므로 댓글을 먼저 반영한다.
+        testEntityManager.flush();
+    }
+
+    @Test
+    @DisplayName("루트 댓글은 자기 자신과의 관계(깊이 0)만 등록한다.")
+    void insertSelf() {
+        // when
+        commentHierarchyJdbcRepository.insertSelf(rootComment.getId());
+
+        // then
+        List<CommentHierarchy> result = commentHierarchyRepository.findAllByDescendant(rootComment);
+        assertThat(result).extracting("ancestorId", "descendantId", "depth")
+                .containsExactly(tuple(rootComment.getId(), rootComment.getId(), 0));
+    }
+
+    @Test
+    @DisplayName("대댓글은 자기 자신과의 관계(깊이 0)와 부모 댓글의 모든 조상과의 관계(깊이 + 1)를 등록한다.")
+    void insertWithAncestors() {
+        // given
+        commentHierarchyJdbcRepository.insertSelf(rootComment.getId());
+        commentHierarchyJdbcRepository.insertWithAncestors(childComment.getId(), rootComment.getId());
+
+        // when
+        int result = commentHierarchyJdbcRepository.insertWithAncestors(grandChildComment.getId(), childComment.getId());
+
+        // then
+        assertThat(result).isEqualTo(3);
+
+        List<CommentHierarchy> hierarchies = commentHierarchyRepository.findAllByDescendant(grandChildComment);
+        assertThat(hierarchies).extracting("ancestorId", "descendantId", "depth")
+                .containsExactlyInAnyOrder(
+                        tuple(grandChildComment.getId(), grandChildComment.getId(), 0),
+                        tuple(childComment.getId(), grandChildComment.getId(), 1),
+                        tuple(rootComment.getId(), grandChildComment.getId(), 2)
+                );
+    }
+
+    @Test
+    @DisplayName("부모 댓글별로 먼저 등록된 자식 댓글을 limit 건까지 조회한다.")
+    void findFirstChildren() {
+        // given
+        commentHierarchyJdbcRepository.insertSelf(rootComment.getId());
+        commentHierarchyJdbcRepository.insertWithAncestors(childComment.getId(), rootComment.getId());
+        commentHierarchyJdbcRepository.insertWithAncestors(grandChildComment.getId(), rootComment.getId());
+
+        // when
+        List<CommentHierarchyResponse> result = commentHierarchyJdbcRepository.findFirstChildren(List.of(rootComment.getId(), childComment.getId()), 1);
+
+        // then
+        assertThat(result).extracting("ancestorId", "descendantId", "depth")
+                .containsExactly(tuple(rootComment.getId(), childComment.getId(), 1));
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.board.domain.comment.repository;
+
+import com.board.domain.article.entity.Article;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.entity.CommentHierarchy;
+import com.board.domain.member.entity.Member;
+import com.board.support.RepositoryTestSupport;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CommentQueryRepositoryTest extends RepositoryTestSupport {
+
+    @Autowired
+    private CommentHierarchyRepository commentHierarchyRepository;
+
+    private CommentQueryRepository commentQueryRepository;
+    private Statistics statistics;
+
+    private Comment rootComment;
+    private Comment childComment;
+    private Comment grandChildComment;
+
+    @BeforeEach
+    void setUp() {
+        commentQueryRepository = new CommentQueryRepository(queryFactory);
+
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .build();
+        testEntityManager.persist(member);
+
+        Article article = Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member)
+                .build();
+        testEntityManager.persist(article);
+
+        rootComment = testEntityManager.persist(Comment.of(article, member, "댓글입니다."));
+        childComment = testEntityManager.persist(Comment.of(article, member, "대댓글입니다."));
+        grandChildComment = testEntityManager.persist(Comment.of(article, member, "대대댓글입니다."));
+
+        testEntityManager.persist(CommentHierarchy.of(rootComment, rootComment, 0));
+        testEntityManager.persist(CommentHierarchy.of(childComment, childComment, 0));
+        testEntityManager.persist(CommentHierarchy.of(rootComment, childComment, 1));
+        testEntityManager.persist(CommentHierarchy.of(grandChildComment, grandChildComment, 0));
+        testEntityManager.persist(CommentHierarchy.of(childComment, grandChildComment, 1));
+        testEntityManager.persist(CommentHierarchy.of(rootComment, grandChildComment, 2));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.clear();
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    @DisplayName("자식 댓글을 계층 정보의 ID 컬럼으로 조회하여 작성자와 함께 1번의 쿼리로 조회한다.")
+    void findChildCommentSlice() {
+        // when
+        Slice<Comment> result = commentQueryRepository.findChildCommentSlice(rootComment.getId(), null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).extracting("content", "member.email")
+                .containsExactly(tuple("대댓글입니다.", "khghouse@daum.net"));
+        assertThat(result.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글별 자식 댓글 수를 댓글을 로딩하지 않고 1번의 쿼리로 조회한다.")
+    void countChildren() {
+        // when
+        Map<Long, Long> result = commentQueryRepository.countChildren(List.of(rootComment.getId(), childComment.getId(), grandChildComment.getId()));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(
+                rootComment.getId(), 1L,
+                childComment.getId(), 1L
+        ));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("계층 엔티티를 조회해도 조상/하위 댓글은 지연 로딩되므로 추가 쿼리가 발생하지 않는다.")
+    void findAllByDescendantWithoutLoadingComments() {
+        // when
+        List<CommentHierarchy> result = commentHierarchyRepository.findAllByDescendant(grandChildComment);
+
+        // then
+        assertThat(result).extracting("ancestorId", "depth")
+                .containsExactlyInAnyOrder(
+                        tuple(grandChildComment.getId(), 0),
+                        tuple(childComment.getId(), 1),
+                        tuple(rootComment.getId(), 2)
+                );
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("댓글 ID 리스트로 댓글과 작성자를 1번의 쿼리로 조회한다.")
+    void findAllWithMemberByIdIn() {
+        // given
+        List<Long> ids = List.of(grandChildComment.getId(), rootComment.getId(), childComment.getId());
+
+        // when
+        List<Comment> result = commentQueryRepository.findAllWithMemberByIdIn(ids);
+
+        // then
+        assertThat(result).extracting("content", "member.email")
+                .containsExactly(
+                        tuple("댓글입니다.", "khghouse@daum.net"),
+                        tuple("대댓글입니다.", "khghouse@daum.net"),
+                        tuple("대대댓글입니다.", "khghouse@daum.net")
+                );
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.board.domain.comment.service;
+
+import com.board.domain.article.entity.Article;
+import com.board.domain.article.repository.ArticleRepository;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.member.entity.Member;
+import com.board.domain.member.repository.MemberRepository;
+import com.board.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Transactional
+class CommentCountServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CommentCountService commentCountService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("실제 댓글 수와 어긋난 게시글의 댓글 수를 삭제되지 않은 댓글 수로 보정한다.")
+    void reconcile() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .build());
+        Article article = articleRepository.save(Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member)
+                .build());
+
+        commentRepository.save(Comment.of(article, member, "댓글1"));
+        commentRepository.save(Comment.of(article, member, "댓글2"));
+        Comment deletedComment = Comment.of(article, member, "댓글3");
+        deletedComment.delete();
+        commentRepository.save(deletedComment);
+        entityManager.flush();
+
+        jdbcTemplate.update("UPDATE article SET comment_count = 100 WHERE id = ?", article.getId());
+
+        // when
+        commentCountService.reconcile();
+
+        // then
+        entityManager.clear();
+        Article result = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(result.getCommentCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글의 댓글 수는 0 미만으로 감소하지 않는다.")
+    void decreaseBelowZero() {
+        // given
+        Member member = memberRepository.save(Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .build());
+        Article article = articleRepository.save(Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member)
+                .build());
+
+        // when
+        commentCountService.decrease(article.getId());
+
+        // then
+        entityManager.clear();
+        Article result = articleRepository.findById(article.getId()).orElseThrow();
+        assertThat(result.getCommentCount()).isZero();
+    }
+
+}
@@ -0,0 +1,160 @@
+package com.board.domain.comment.service;
+
+import com.board.domain.article.entity.Article;
+import com.board.domain.article.repository.ArticleRepository;
+import com.board.domain.comment.dto.request.ChildCommentServiceRequest;
+import com.board.domain.comment.dto.request.CommentServiceRequest;
+import com.board.domain.comment.dto.response.CommentExportResponse;
+import com.board.domain.comment.entity.Comment;
+import com.board.domain.comment.repository.CommentRepository;
+import com.board.domain.member.entity.Member;
+import com.board.domain.member.repository.MemberRepository;
+import com.board.global.common.exception.NotFoundException;
+import com.board.global.common.exception.ServiceUnavailableException;
+import com.board.support.IntegrationTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.board.global.common.enumeration.ErrorCode.ARTICLE_NOT_FOUND;
+import static com.board.global.common.enumeration.ErrorCode.COMMENT_EXPORT_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Transactional
+class CommentExportServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CommentExportService commentExportService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Article article;
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .email("khghouse@daum.net")
+                .password("Password12#$")
+                .build());
+
+        article = articleRepository.save(Article.builder()
+                .title("안녕하세요.")
+                .content("반갑습니다.")
+                .deleted(false)
+                .member(member)
+                .build());
+    }
+
+    @Test
+    @DisplayName("댓글 스레드를 깊이 우선 순서의 NDJSON으로 내보낸다. 삭제된 댓글은 내용과 작성자 없이 내보낸다.")
+    void exportCommentThread() throws Exception {
+        // given
+        Comment root1 = createComment("댓글1");
+        Comment root2 = createComment("댓글2");
+        Comment child1 = createChildComment(root1, "대댓글1-1");
+        Comment child2 = createChildComment(root1, "대댓글1-2");
+        Comment grandChild = createChildComment(child1, "대댓글1-1-1");
+        Comment child3 = createChildComment(root2, "대댓글2-1");
+        commentService.deleteComment(child2.getId(), member.getId());
+        entityManager.flush();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // when
+        commentExportService.exportCommentThread(article.getId())
+                .writeTo(outputStream);
+
+        // then
+        List<CommentExportResponse> result = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            result.add(objectMapper.readValue(line, CommentExportResponse.class));
+        }
+
+        assertThat(result).extracting("id", "parentId", "depth", "content")
+                .containsExactly(
+                        tuple(root1.getId(), null, 0, "댓글1"),
+                        tuple(child1.getId(), root1.getId(), 1, "대댓글1-1"),
+                        tuple(grandChild.getId(), child1.getId(), 2, "대댓글1-1-1"),
+                        tuple(child2.getId(), root1.getId(), 1, null),
+                        tuple(root2.getId(), null, 0, "댓글2"),
+                        tuple(child3.getId(), root2.getId(), 1, "대댓글2-1")
+                );
+        assertThat(result.get(3).member()).isNull();
+        assertThat(result.get(0).member().email()).isEqualTo("khghouse@daum.net");
+    }
+
+    @Test
+    @DisplayName("게시글이 존재하지 않으면 스트리밍을 시작하기 전에 예외가 발생한다.")
+    void exportCommentThreadNotExistArticle() {
+        // when, then
+        assertThatThrownBy(() -> commentExportService.exportCommentThread(0L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(ARTICLE_NOT_FOUND.getMessage()); // 게시글 정보가 존재하지 않습니다.
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 내보내기가 최대 개수면 예외가 발생하고, 내보내기가 끝나면 다시 내보낼 수 있다.")
+    void exportCommentThreadBusy() throws Exception {
+        // given
+        List<StreamingResponseBody> inProgress = new ArrayList<>();
+        try {
+            while (inProgress.size() < 100) {
+                inProgress.add(commentExportService.exportCommentThread(article.getId()));
+            }
+        } catch (ServiceUnavailableException e) {
+            // 최대 개수까지 허가를 얻은 상태
+        }
+
+        // when, then
+        assertThat(inProgress).isNotEmpty().hasSizeLessThan(100);
+        assertThatThrownBy(() -> commentExportService.exportCommentThread(article.getId()))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(COMMENT_EXPORT_BUSY.getMessage()); // 진행 중인 댓글 내보내기가 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.
+
+        for (StreamingResponseBody body : inProgress) {
+            body.writeTo(new ByteArrayOutputStream());
+        }
+        commentExportService.exportCommentThread(article.getId())
+                .writeTo(new ByteArrayOutputStream());
+    }
+
+    private Comment createComment(String content) {
+        commentService.createComment(CommentServiceRequest.withContentAndArticle(content, article.getId()), member.getId());
+        return commentRepository.findTopByOrderByIdDesc();
+    }
+
+    private Comment createChildComment(Comment parentComment, String content) {
+        commentService.createChildComment(ChildCommentServiceRequest.of(parentComment.getId(), content), member.getId());
+        return commentRepository.findTopByOrderByIdDesc();
+    }
+
+}
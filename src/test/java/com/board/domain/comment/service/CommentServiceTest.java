@@ -5,11 +5,15 @@ import com.board.domain.article.repository.ArticleRepository;
 import com.board.domain.comment.dto.request.ChildCommentServiceRequest;
 import com.board.domain.comment.dto.request.CommentServiceRequest;
 import com.board.domain.comment.dto.response.CommentResponse;
+import com.board.domain.comment.dto.response.CommentNodeResponse;
+import com.board.domain.comment.dto.response.CommentTreeResponse;
 import com.board.domain.comment.entity.Comment;
 import com.board.domain.comment.repository.CommentRepository;
 import com.board.domain.comment.service.CommentService;
 import com.board.domain.member.entity.Member;
 import com.board.domain.member.repository.MemberRepository;
+import com.board.global.common.dto.page.PageResponse;
+import com.board.global.common.dto.page.PageServiceRequest;
 import com.board.global.common.exception.ConflictException;
 import com.board.global.common.exception.ForbiddenException;
 import com.board.global.common.exception.NotFoundException;
@@ -21,9 +25,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static com.board.global.common.enumeration.ErrorCode.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @Transactional
 class CommentServiceTest extends IntegrationTestSupport {
@@ -244,6 +251,125 @@ class CommentServiceTest extends IntegrationTestSupport {
                 .hasMessage(INVALID_WRITER.getMessage()); // 작성자가 아닙니다.
     }
 
+    @Test
+    @DisplayName("게시글의 댓글을 트리 구조로 조회한다. 삭제된 댓글은 하위 댓글을 유지한 채 내용 없이 응답한다.")
+    void getCommentTree() {
+        // given
+        commentService.createComment(CommentServiceRequest.withContentAndArticle("댓글1", article.getId()), member.getId());
+        Comment root1 = commentRepository.findTopByOrderByIdDesc();
+        commentService.createComment(CommentServiceRequest.withContentAndArticle("댓글2", article.getId()), member.getId());
+        Comment root2 = commentRepository.findTopByOrderByIdDesc();
+
+        commentService.createChildComment(ChildCommentServiceRequest.of(root1.getId(), "대댓글1-1"), member.getId());
+        Comment child = commentRepository.findTopByOrderByIdDesc();
+        commentService.createChildComment(ChildCommentServiceRequest.of(child.getId(), "대댓글1-1-1"), member.getId());
+        commentService.createChildComment(ChildCommentServiceRequest.of(root1.getId(), "대댓글1-2"), member.getId());
+
+        commentService.deleteComment(child.getId(), member.getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<CommentTreeResponse> result = commentService.getCommentTree(article.getId());
+
+        // then
+        assertThat(result).extracting("id", "content")
+                .containsExactly(
+                        tuple(root1.getId(), "댓글1"),
+                        tuple(root2.getId(), "댓글2")
+                );
+        assertThat(result.get(0).children()).extracting("content", "deleted")
+                .containsExactly(
+                        tuple(null, true),
+                        tuple("대댓글1-2", false)
+                );
+        assertThat(result.get(0).children().get(0).member()).isNull();
+        assertThat(result.get(0).children().get(0).children()).extracting("content")
+                .containsExactly("대댓글1-1-1");
+        assertThat(result.get(1).children()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("댓글 트리를 조회할 때 게시글이 존재하지 않으면 예외가 발생한다.")
+    void getCommentTreeNotExistArticle() {
+        // when, then
+        assertThatThrownBy(() -> commentService.getCommentTree(0L))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(ARTICLE_NOT_FOUND.getMessage()); // 게시글 정보가 존재하지 않습니다.
+    }
+
+    @Test
+    @DisplayName("루트 댓글을 커서 기반으로 조회한다. 루트 댓글마다 자식 댓글 수와 미리보기 자식 댓글을 함께 응답한다.")
+    void getRootComments() {
+        // given
+        Comment root1 = createComment("댓글1");
+        Comment root2 = createComment("댓글2");
+        Comment root3 = createComment("댓글3");
+
+        Comment child1 = createChildComment(root1, "대댓글1-1");
+        createChildComment(root1, "대댓글1-2");
+        createChildComment(root1, "대댓글1-3");
+        createChildComment(child1, "대댓글1-1-1");
+
+        // when
+        PageResponse firstPage = commentService.getRootComments(article.getId(), PageServiceRequest.of(null, 2, null, null), 2);
+        PageResponse secondPage = commentService.getRootComments(article.getId(), PageServiceRequest.of(null, 2, null, null, firstPage.getNextCursor()), 2);
+
+        // then
+        List<CommentNodeResponse> firstContents = (List<CommentNodeResponse>) firstPage.getContents();
+        assertThat(firstPage.getPageInformation().getIsLast()).isFalse();
+        assertThat(firstContents).extracting("id", "childCount")
+                .containsExactly(
+                        tuple(root1.getId(), 3L),
+                        tuple(root2.getId(), 0L)
+                );
+        assertThat(firstContents.get(0).children()).extracting("content", "childCount")
+                .containsExactly(
+                        tuple("대댓글1-1", 1L),
+                        tuple("대댓글1-2", 0L)
+                );
+        assertThat(firstContents.get(1).children()).isEmpty();
+
+        assertThat(secondPage.getPageInformation().getIsLast()).isTrue();
+        assertThat(secondPage.getNextCursor()).isNull();
+        assertThat((List<CommentNodeResponse>) secondPage.getContents()).extracting("id")
+                .containsExactly(root3.getId());
+    }
+
+    @Test
+    @DisplayName("자식 댓글을 커서 기반으로 조회한다. 자식 댓글마다 하위 댓글 수를 함께 응답한다.")
+    void getChildComments() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child1 = createChildComment(root, "대댓글1");
+        Comment child2 = createChildComment(root, "대댓글2");
+        Comment child3 = createChildComment(root, "대댓글3");
+        createChildComment(child2, "대대댓글");
+
+        // when
+        PageResponse firstPage = commentService.getChildComments(root.getId(), PageServiceRequest.of(null, 2, null, null));
+        PageResponse secondPage = commentService.getChildComments(root.getId(), PageServiceRequest.of(null, 2, null, null, firstPage.getNextCursor()));
+
+        // then
+        assertThat((List<CommentNodeResponse>) firstPage.getContents()).extracting("id", "childCount", "children")
+                .containsExactly(
+                        tuple(child1.getId(), 0L, null),
+                        tuple(child2.getId(), 1L, null)
+                );
+        assertThat((List<CommentNodeResponse>) secondPage.getContents()).extracting("id")
+                .containsExactly(child3.getId());
+        assertThat(secondPage.getPageInformation().getIsLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("자식 댓글을 조회할 때 댓글이 존재하지 않으면 예외가 발생한다.")
+    void getChildCommentsNotFound() {
+        // when, then
+        assertThatThrownBy(() -> commentService.getChildComments(0L, PageServiceRequest.withDefault()))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage(COMMENT_NOT_FOUND.getMessage()); // 댓글 정보가 존재하지 않습니다.
+    }
+
     @Test
     @DisplayName("등록된 댓글을 삭제하고 검증한다.")
     void deleteComment() {
@@ -309,4 +435,204 @@ class CommentServiceTest extends IntegrationTestSupport {
                 .hasMessage(INVALID_WRITER.getMessage()); // 작성자가 아닙니다.
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("댓글과 모든 하위 댓글을 한 번에 삭제한다. 다른 스레드의 댓글은 삭제되지 않는다.")
+    void deleteCommentSubtree() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child = createChildComment(root, "대댓글");
+        Comment grandChild = createChildComment(child, "대대댓글");
+        Comment otherRoot = createComment("다른 댓글");
+
+        // when
+        commentService.deleteCommentSubtree(root.getId(), member.getId());
+
+        // then
+        assertThat(commentRepository.findAllById(List.of(root.getId(), child.getId(), grandChild.getId(), otherRoot.getId())))
+                .extracting("id", "deleted")
+                .containsExactlyInAnyOrder(
+                        tuple(root.getId(), true),
+                        tuple(child.getId(), true),
+                        tuple(grandChild.getId(), true),
+                        tuple(otherRoot.getId(), false)
+                );
+    }
+
+    @Test
+    @DisplayName("하위 댓글부터 일괄 삭제하면 상위 댓글은 삭제되지 않는다.")
+    void deleteCommentSubtreeFromChild() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child = createChildComment(root, "대댓글");
+        Comment grandChild = createChildComment(child, "대대댓글");
+
+        // when
+        commentService.deleteCommentSubtree(child.getId(), member.getId());
+
+        // then
+        assertThat(commentRepository.findAllById(List.of(root.getId(), child.getId(), grandChild.getId())))
+                .extracting("id", "deleted")
+                .containsExactlyInAnyOrder(
+                        tuple(root.getId(), false),
+                        tuple(child.getId(), true),
+                        tuple(grandChild.getId(), true)
+                );
+    }
+
+    @Test
+    @DisplayName("이미 모두 삭제된 댓글을 일괄 삭제하면 예외가 발생한다.")
+    void deleteCommentSubtreeAlreadyDeleted() {
+        // given
+        Comment root = createComment("댓글");
+        createChildComment(root, "대댓글");
+        commentService.deleteCommentSubtree(root.getId(), member.getId());
+
+        // when, then
+        assertThatThrownBy(() -> commentService.deleteCommentSubtree(root.getId(), member.getId()))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage(ALREADY_DELETED.getMessage()); // 이미 삭제되었습니다.
+    }
+
+    @Test
+    @DisplayName("댓글 작성자나 게시글 작성자가 아니면 일괄 삭제할 수 없다.")
+    void deleteCommentSubtreeInvalidModerator() {
+        // given
+        Comment root = createComment("댓글");
+
+        // when, then
+        assertThatThrownBy(() -> commentService.deleteCommentSubtree(root.getId(), -1L))
+                .isInstanceOf(ForbiddenException.class)
+                .hasMessage(INVALID_MODERATOR.getMessage()); // 댓글 작성자 또는 게시글 작성자가 아닙니다.
+    }
+
+    @Test
+    @DisplayName("일괄 삭제된 댓글과 모든 하위 댓글을 한 번에 복구한다.")
+    void restoreCommentSubtree() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child = createChildComment(root, "대댓글");
+        commentService.deleteCommentSubtree(root.getId(), member.getId());
+
+        // when
+        commentService.restoreCommentSubtree(root.getId(), member.getId());
+
+        // then
+        assertThat(commentRepository.findAllById(List.of(root.getId(), child.getId())))
+                .extracting("deleted")
+                .containsOnly(false);
+    }
+
+    @Test
+    @DisplayName("일괄 복구 시 일괄 삭제 전에 개별 삭제된 하위 댓글은 복구하지 않는다.")
+    void restoreCommentSubtreeExcludeDeletedBefore() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child = createChildComment(root, "대댓글");
+        Comment deletedChild = createChildComment(root, "삭제된 대댓글");
+        commentService.deleteComment(deletedChild.getId(), member.getId());
+        commentService.deleteCommentSubtree(root.getId(), member.getId());
+
+        // when
+        commentService.restoreCommentSubtree(root.getId(), member.getId());
+
+        // then
+        assertThat(commentRepository.findAllById(List.of(root.getId(), child.getId(), deletedChild.getId())))
+                .extracting("id", "deleted")
+                .containsExactlyInAnyOrder(
+                        tuple(root.getId(), false),
+                        tuple(child.getId(), false),
+                        tuple(deletedChild.getId(), true)
+                );
+    }
+
+    @Test
+    @DisplayName("일괄 복구 시 다른 댓글 기준으로 먼저 일괄 삭제된 하위 댓글은 복구하지 않는다.")
+    void restoreCommentSubtreeExcludeOtherSubtree() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child = createChildComment(root, "대댓글");
+        Comment grandChild = createChildComment(child, "대대댓글");
+        commentService.deleteCommentSubtree(child.getId(), member.getId());
+        commentService.deleteCommentSubtree(root.getId(), member.getId());
+
+        // when
+        commentService.restoreCommentSubtree(root.getId(), member.getId());
+
+        // then
+        assertThat(commentRepository.findAllById(List.of(root.getId(), child.getId(), grandChild.getId())))
+                .extracting("id", "deleted")
+                .containsExactlyInAnyOrder(
+                        tuple(root.getId(), false),
+                        tuple(child.getId(), true),
+                        tuple(grandChild.getId(), true)
+                );
+    }
+
+    @Test
+    @DisplayName("삭제된 댓글이 없는데 복구하면 예외가 발생한다.")
+    void restoreCommentSubtreeNotDeleted() {
+        // given
+        Comment root = createComment("댓글");
+
+        // when, then
+        assertThatThrownBy(() -> commentService.restoreCommentSubtree(root.getId(), member.getId()))
+                .isInstanceOf(ConflictException.class)
+                .hasMessage(NOT_DELETED.getMessage()); // 삭제된 댓글이 없습니다.
+    }
+
+    @Test
+    @DisplayName("댓글 등록/삭제, 하위 댓글 일괄 삭제/복구 시 게시글의 댓글 수를 증감한다.")
+    void commentCount() {
+        // given
+        Comment root = createComment("댓글");
+        Comment child = createChildComment(root, "대댓글");
+        createChildComment(child, "대대댓글");
+        Comment other = createComment("다른 댓글");
+
+        // when
+        commentService.deleteComment(other.getId(), member.getId());
+        long afterDelete = getCommentCount();
+
+        commentService.deleteCommentSubtree(child.getId(), member.getId());
+        long afterSubtreeDelete = getCommentCount();
+
+        commentService.restoreCommentSubtree(child.getId(), member.getId());
+        long afterRestore = getCommentCount();
+
+        // then
+        assertThat(afterDelete).isEqualTo(3);
+        assertThat(afterSubtreeDelete).isEqualTo(1);
+        assertThat(afterRestore).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("게시글을 로딩한 후 수정하기 전에 댓글이 등록되어도, 게시글 수정 시 댓글 수를 덮어쓰지 않는다.")
+    void createCommentWhileUpdatingArticle() {
+        // given
+        entityManager.flush(); // 댓글 수가 0인 상태로 영속성 컨텍스트에 로딩된 게시글
+        createComment("댓글");
+
+        // when
+        article.update("수정된 제목", "수정된 내용");
+
+        // then
+        assertThat(getCommentCount()).isEqualTo(1);
+    }
+
+    private Comment createComment(String content) {
+        commentService.createComment(CommentServiceRequest.withContentAndArticle(content, article.getId()), member.getId());
+        return commentRepository.findTopByOrderByIdDesc();
+    }
+
+    private Comment createChildComment(Comment parentComment, String content) {
+        commentService.createChildComment(ChildCommentServiceRequest.of(parentComment.getId(), content), member.getId());
+        return commentRepository.findTopByOrderByIdDesc();
+    }
+
+    private long getCommentCount() {
+        entityManager.flush();
+        entityManager.clear();
+        return articleRepository.findById(article.getId()).orElseThrow().getCommentCount();
+    }
+
+}
@@ -134,6 +134,20 @@ class MemberTest {
         assertThat(SecurityEncoder.passwordEncoder().matches("Khghouse12!@", member.getPassword())).isTrue();
     }
 
+    @Test
+    @DisplayName("미리 해시한 비밀번호로 회원을 생성하면 비밀번호를 다시 해시하지 않는다.")
+    void create() {
+        // given
+        String encodedPassword = SecurityEncoder.passwordEncoder().encode("Khghouse12!@");
+
+        // when
+        Member member = Member.create("khghouse@daum.net", encodedPassword);
+
+        // then
+        assertThat(member.getPassword()).isEqualTo(encodedPassword);
+        assertThat(member.getDeleted()).isFalse();
+    }
+
     private static Member toEntityByEmail(String email) {
         return Member.builder()
                 .email(email)
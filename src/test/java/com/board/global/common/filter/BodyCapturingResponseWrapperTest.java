@@ -0,0 +1,106 @@
+package com.board.global.common.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BodyCapturingResponseWrapperTest {
+
+    @Test
+    @DisplayName("로깅할 응답이면 바디를 그대로 전송하면서 최대 크기까지만 복사한다.")
+    void captureTruncated() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 5, r -> r.getStatus() >= 400);
+        wrapper.setStatus(500);
+
+        // when
+        wrapper.getOutputStream().write("0123456789".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(wrapper.getCapturedBody()).isEqualTo("01234");
+        assertThat(wrapper.isTruncated()).isTrue();
+        assertThat(wrapper.getTotalBytes()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("로깅하지 않는 응답이면 바디를 복사하지 않는다.")
+    void notCapture() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024, r -> r.getStatus() >= 400);
+        wrapper.setStatus(200);
+
+        // when
+        wrapper.getWriter().write("{\"success\":true}");
+        wrapper.getWriter().flush();
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("{\"success\":true}");
+        assertThat(wrapper.getCapturedBody()).isEmpty();
+        assertThat(wrapper.isTruncated()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Writer로 쓴 바디도 복사한다.")
+    void captureWriter() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024, r -> true);
+
+        // when
+        wrapper.getWriter().write("{\"message\":\"잘못된 요청입니다.\"}");
+        wrapper.getWriter().flush();
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("{\"message\":\"잘못된 요청입니다.\"}");
+        assertThat(wrapper.getCapturedBody()).isEqualTo("{\"message\":\"잘못된 요청입니다.\"}");
+    }
+
+    @Test
+    @DisplayName("응답을 초기화하면 복사한 바디를 비우고, 초기화 후에 쓴 바디만 복사한다.")
+    void reset() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024, r -> r.getStatus() >= 400);
+        wrapper.setStatus(500);
+        wrapper.getOutputStream().write("before".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        wrapper.reset();
+        wrapper.setStatus(400);
+        wrapper.getOutputStream().write("after".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("after");
+        assertThat(wrapper.getCapturedBody()).isEqualTo("after");
+        assertThat(wrapper.getTotalBytes()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("버퍼를 초기화하면 복사 여부를 다시 판단한다.")
+    void resetBuffer() throws Exception {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        BodyCapturingResponseWrapper wrapper = new BodyCapturingResponseWrapper(response, 1024, r -> r.getStatus() >= 400);
+        wrapper.setStatus(200);
+        wrapper.getOutputStream().write("ok".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        wrapper.resetBuffer();
+        wrapper.setStatus(500);
+        wrapper.getOutputStream().write("error".getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(response.getContentAsString()).isEqualTo("error");
+        assertThat(wrapper.getCapturedBody()).isEqualTo("error");
+        assertThat(wrapper.isTruncated()).isFalse();
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.board.global.infrastructure.keyvalue;
+
+class InMemoryKeyValueStoreTest extends KeyValueStoreContractTest {
+
+    private final InMemoryKeyValueStore inMemoryKeyValueStore = new InMemoryKeyValueStore();
+
+    @Override
+    protected KeyValueStore keyValueStore() {
+        return inMemoryKeyValueStore;
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.board.global.infrastructure.keyvalue;
+
+import com.board.global.infrastructure.redis.RefreshTokenRotation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 모든 {@link KeyValueStore} 구현이 통과해야 하는 테스트
+ */
+public abstract class KeyValueStoreContractTest {
+
+    private static final String KEY = "contract:key";
+    private static final String KEY2 = "contract:key2";
+    private static final String USED_KEY = "contract:used";
+    private static final String GRACE_KEY = "contract:grace";
+
+    protected abstract KeyValueStore keyValueStore();
+
+    @AfterEach
+    void tearDown() {
+        keyValueStore().deleteAll(List.of(KEY, KEY2, USED_KEY, GRACE_KEY));
+    }
+
+    @Test
+    @DisplayName("등록된 key로 조회하면 value를 리턴하고, 존재하지 않는 key는 null을 리턴한다.")
+    void get() {
+        // given
+        keyValueStore().set(KEY, "value", 3, TimeUnit.SECONDS);
+
+        // when
+        String result = keyValueStore().get(KEY);
+        String invalid = keyValueStore().get(KEY2);
+
+        // then
+        assertThat(result).isEqualTo("value");
+        assertThat(invalid).isNull();
+    }
+
+    @Test
+    @DisplayName("유효시간이 지난 key는 존재하지 않는다.")
+    void expire() throws Exception {
+        // given
+        keyValueStore().set(KEY, "value", 500, TimeUnit.MILLISECONDS);
+
+        // when
+        TimeUnit.MILLISECONDS.sleep(700);
+
+        // then
+        assertThat(keyValueStore().get(KEY)).isNull();
+        assertThat(keyValueStore().exists(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 key를 한 번에 등록하고, key 순서대로 조회한다.")
+    void setAllAndMget() {
+        // given
+        keyValueStore().setAll(Map.of(KEY, "value1", KEY2, "value2"), 3, TimeUnit.SECONDS);
+
+        // when
+        List<String> result = keyValueStore().mget(List.of(KEY2, "contract:none", KEY));
+
+        // then
+        assertThat(result).containsExactly("value2", null, "value1");
+    }
+
+    @Test
+    @DisplayName("key가 존재하지 않을 때만 등록한다.")
+    void setIfAbsent() {
+        // when
+        boolean first = keyValueStore().setIfAbsent(KEY, "value", 3, TimeUnit.SECONDS);
+        boolean second = keyValueStore().setIfAbsent(KEY, "value2", 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(keyValueStore().get(KEY)).isEqualTo("value");
+    }
+
+    @Test
+    @DisplayName("long 값을 key가 존재하지 않을 때만 등록하고 조회한다.")
+    void setLongIfAbsent() {
+        // given
+        long now = System.currentTimeMillis();
+
+        // when
+        boolean first = keyValueStore().setLongIfAbsent(KEY, now, 3, TimeUnit.SECONDS);
+        boolean second = keyValueStore().setLongIfAbsent(KEY, now + 1, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(keyValueStore().getLong(KEY)).isEqualTo(now);
+        assertThat(keyValueStore().getLong(KEY2)).isNull();
+    }
+
+    @Test
+    @DisplayName("key가 존재할 때만 증가시킨다.")
+    void incrementIfExists() {
+        // given
+        keyValueStore().set(KEY, "10", 3, TimeUnit.SECONDS);
+
+        // when
+        Long result = keyValueStore().incrementIfExists(KEY, -1);
+        Long invalid = keyValueStore().incrementIfExists(KEY2, 1);
+
+        // then
+        assertThat(result).isEqualTo(9L);
+        assertThat(keyValueStore().get(KEY)).isEqualTo("9");
+        assertThat(invalid).isNull();
+        assertThat(keyValueStore().exists(KEY2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 key를 삭제하고 삭제된 key 개수를 리턴한다.")
+    void deleteAll() {
+        // given
+        keyValueStore().set(KEY, "value", 3, TimeUnit.SECONDS);
+
+        // when
+        long result = keyValueStore().deleteAll(List.of(KEY, KEY2));
+
+        // then
+        assertThat(result).isEqualTo(1);
+        assertThat(keyValueStore().exists(KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("prefix로 시작하는 key만 순회한다.")
+    void scan() {
+        // given
+        keyValueStore().set(KEY, "value", 3, TimeUnit.SECONDS);
+        keyValueStore().set(KEY2, "value", 3, TimeUnit.SECONDS);
+
+        // when
+        List<String> result = new ArrayList<>();
+        keyValueStore().scan("contract:key", result::add);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(KEY, KEY2);
+    }
+
+    @Test
+    @DisplayName("저장된 값과 일치하면 교체하고, 이미 교체된 값으로 다시 교체하면 key를 삭제한다.")
+    void compareAndRotate() throws Exception {
+        // given
+        keyValueStore().set(KEY, "value", 3, TimeUnit.SECONDS);
+
+        // when
+        RefreshTokenRotation rotated = keyValueStore().compareAndRotate(KEY, USED_KEY, GRACE_KEY, "value", "valueHash", "newValue", 300, 3, TimeUnit.SECONDS);
+        RefreshTokenRotation mismatch = keyValueStore().compareAndRotate(KEY, USED_KEY, GRACE_KEY, "other", "otherHash", "anotherValue", 300, 3, TimeUnit.SECONDS);
+        String afterRotation = keyValueStore().get(KEY);
+        TimeUnit.MILLISECONDS.sleep(500); // 유예시간 경과
+        RefreshTokenRotation reused = keyValueStore().compareAndRotate(KEY, USED_KEY, GRACE_KEY, "value", "valueHash", "anotherValue", 300, 3, TimeUnit.SECONDS);
+        RefreshTokenRotation missing = keyValueStore().compareAndRotate(KEY, USED_KEY, GRACE_KEY, "newValue", "newValueHash", "anotherValue", 300, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(rotated).isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(mismatch).isEqualTo(RefreshTokenRotation.MISMATCH);
+        assertThat(afterRotation).isEqualTo("newValue");
+        assertThat(reused).isEqualTo(RefreshTokenRotation.REUSED);
+        assertThat(missing).isEqualTo(RefreshTokenRotation.MISSING);
+        assertThat(keyValueStore().get(KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("유예시간 안에 방금 교체된 값으로 다시 교체하면 key를 삭제하지 않는다.")
+    void compareAndRotateInGracePeriod() {
+        // given
+        keyValueStore().set(KEY, "value", 3, TimeUnit.SECONDS);
+        keyValueStore().compareAndRotate(KEY, USED_KEY, GRACE_KEY, "value", "valueHash", "newValue", 3000, 3, TimeUnit.SECONDS);
+
+        // when
+        RefreshTokenRotation result = keyValueStore().compareAndRotate(KEY, USED_KEY, GRACE_KEY, "value", "valueHash", "anotherValue", 3000, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result).isEqualTo(RefreshTokenRotation.MISMATCH);
+        assertThat(keyValueStore().get(KEY)).isEqualTo("newValue");
+    }
+
+    @Test
+    @DisplayName("토큰 버킷의 토큰을 모두 꺼내면 다음 토큰이 채워질 때까지 남은 시간을 리턴한다.")
+    void acquireToken() {
+        // when
+        long first = keyValueStore().acquireToken(KEY, 2, 1);
+        long second = keyValueStore().acquireToken(KEY, 2, 1);
+        long third = keyValueStore().acquireToken(KEY, 2, 1);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isBetween(1L, 1000L);
+    }
+
+    @Test
+    @DisplayName("채널 구독이 완료되면 콜백을 실행하고, 발행된 메시지를 수신한다.")
+    void publishAndSubscribe() throws Exception {
+        // given
+        String channel = "contract:channel:" + System.nanoTime();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<String> received = new AtomicReference<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        keyValueStore().subscribe(channel, message -> {
+            received.set(message);
+            latch.countDown();
+        }, subscribed::countDown);
+        assertThat(subscribed.await(3, TimeUnit.SECONDS)).isTrue(); // 구독 완료 대기
+
+        // when
+        keyValueStore().publish(channel, "message");
+
+        // then
+        assertThat(latch.await(3, TimeUnit.SECONDS)).isTrue();
+        assertThat(received.get()).isEqualTo("message");
+    }
+
+}
@@ -0,0 +1,49 @@
+package com.board.global.infrastructure.redis;
+
+import com.board.global.infrastructure.keyvalue.KeyValueStore;
+import com.board.global.infrastructure.keyvalue.KeyValueStoreContractTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RedisKeyValueStoreTest extends KeyValueStoreContractTest {
+
+    @Autowired
+    private RedisKeyValueStore redisKeyValueStore;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Override
+    protected KeyValueStore keyValueStore() {
+        return redisKeyValueStore;
+    }
+
+    @Test
+    @DisplayName("애플리케이션 시작 시 모든 스크립트가 레디스에 등록되어 있다.")
+    void loadScripts() {
+        // given
+        String[] shas = RedisScripts.ALL.stream()
+                .map(RedisScript::getSha1)
+                .toArray(String[]::new);
+
+        // when
+        redisKeyValueStore.loadScripts();
+        List<Boolean> result = redisTemplate.execute((RedisCallback<List<Boolean>>) connection -> connection.scriptingCommands().scriptExists(shas));
+
+        // then
+        assertThat(result).containsOnly(true);
+    }
+
+}
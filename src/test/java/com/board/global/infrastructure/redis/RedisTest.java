@@ -1,24 +1,27 @@
 package com.board.global.infrastructure.redis;
 
-import com.board.global.infrastructure.redis.Redis;
-import com.board.global.security.JwtException;
 import com.board.support.IntegrationTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
-import static com.board.global.security.JwtErrorCode.INVALID;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Transactional
 class RedisTest extends IntegrationTestSupport {
 
     private final String PREFIX_REDIS_KEY_REFRESH_TOKEN = "refreshToken:";
+    private final String PREFIX_REDIS_KEY_REFRESH_TOKEN_FAMILY = "refreshTokenFamily:";
+    private final String PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE = "refreshTokenGrace:";
 
     @Autowired
     private Redis redis;
@@ -71,73 +74,156 @@ class RedisTest extends IntegrationTestSupport {
     }
 
     @Test
-    @DisplayName("레디스에 리프레쉬 토큰을 등록하고 확인한다.")
-    void setRefreshToken() {
+    @DisplayName("레디스에 존재하지 않는 key면 등록하고 true를 리턴한다.")
+    void setIfAbsent() {
+        // given
+        redisTemplate.delete("key");
+
         // when
-        redis.setRefreshToken(1L, "refreshToken");
+        boolean result = redis.setIfAbsent("key", "value", 3, TimeUnit.SECONDS);
 
         // then
-        String result = redisTemplate.opsForValue()
-                .get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
-
-        assertThat(result).isEqualTo("refreshToken");
+        assertThat(result).isTrue();
+        assertThat(redisTemplate.opsForValue().get("key")).isEqualTo("value");
 
         // tearDown
-        redisTemplate.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
+        redisTemplate.delete("key");
     }
 
     @Test
-    @DisplayName("요청 파라미터로 전달받은 리프레쉬 토큰과 레디스에 저장된 토큰을 비교한다.")
-    void compareRefreshToken() {
+    @DisplayName("레디스에 이미 존재하는 key면 등록하지 않고 false를 리턴한다.")
+    void setIfAbsentAlreadyExists() {
         // given
         redisTemplate.opsForValue()
-                .set(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, "refreshToken", 3, TimeUnit.SECONDS);
+                .set("key", "value", 3, TimeUnit.SECONDS);
+
+        // when
+        boolean result = redis.setIfAbsent("key", "value2", 3, TimeUnit.SECONDS);
 
-        String requestRefreshToken = "refreshToken";
+        // then
+        assertThat(result).isFalse();
+        assertThat(redisTemplate.opsForValue().get("key")).isEqualTo("value");
+
+        // tearDown
+        redisTemplate.delete("key");
+    }
+
+    @Test
+    @DisplayName("여러 key를 한 번에 조회하면 key 순서대로 value를 리턴하고, 존재하지 않는 key는 null이다.")
+    void mget() {
+        // given
+        redisTemplate.opsForValue().set("key1", "value1", 3, TimeUnit.SECONDS);
+        redisTemplate.opsForValue().set("key3", "value3", 3, TimeUnit.SECONDS);
+        redisTemplate.delete("key2");
 
         // when
-        redis.compareRefreshToken(1L, requestRefreshToken);
+        List<String> result = redis.mget(List.of("key1", "key2", "key3"));
 
         // then
-        String result = redisTemplate.opsForValue()
-                .get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
-        assertThat(result).isEqualTo("refreshToken");
+        assertThat(result).containsExactly("value1", null, "value3");
 
         // tearDown
-        redisTemplate.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
+        redisTemplate.delete(List.of("key1", "key3"));
     }
 
     @Test
-    @DisplayName("레디스에 저장된 리프레쉬 토큰과 값은 같지만 회원 ID가 달라 예외가 발생한다.")
-    void compareRefreshTokenAnotherMemberId() {
+    @DisplayName("여러 key를 파이프라인으로 등록하면 모두 유효시간과 함께 등록된다.")
+    void setAll() {
+        // when
+        redis.setAll(Map.of("key1", "value1", "key2", "value2"), 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(redis.mget(List.of("key1", "key2"))).containsExactly("value1", "value2");
+        assertThat(redisTemplate.getExpire("key1")).isPositive();
+        assertThat(redisTemplate.getExpire("key2")).isPositive();
+
+        // tearDown
+        redisTemplate.delete(List.of("key1", "key2"));
+    }
+
+    @Test
+    @DisplayName("많은 key를 나눠서 삭제하고 삭제된 key 개수를 리턴한다.")
+    void deleteAll() {
         // given
-        redisTemplate.opsForValue()
-                .set(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, "refreshToken", 3, TimeUnit.SECONDS);
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < 1200; i++) {
+            values.put("key:" + i, "value");
+        }
+        redis.setAll(values, 10, TimeUnit.SECONDS);
+
+        // when
+        long result = redis.deleteAll(values.keySet());
+
+        // then
+        assertThat(result).isEqualTo(1200);
+        assertThat(redis.mget(List.of("key:0", "key:1199"))).containsOnlyNulls();
+    }
 
-        String requestRefreshToken = "refreshToken";
+    @Test
+    @DisplayName("long 값을 바이너리로 등록하고 조회한다.")
+    void setLongIfAbsent() {
+        // given
+        redisTemplate.delete("key");
+        long now = System.currentTimeMillis();
 
         // when
-        assertThatThrownBy(() -> redis.compareRefreshToken(2L, requestRefreshToken))
-                .isInstanceOf(JwtException.class)
-                .hasMessage(INVALID.getMessage()); // 유효하지 않는 토큰입니다.
+        boolean first = redis.setLongIfAbsent("key", now, 3, TimeUnit.SECONDS);
+        boolean second = redis.setLongIfAbsent("key", now + 1, 3, TimeUnit.SECONDS);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(redis.getLong("key")).isEqualTo(now);
+        assertThat(redisTemplate.execute((RedisCallback<Long>) connection -> connection.stringCommands().strLen("key".getBytes(StandardCharsets.UTF_8))))
+                .isEqualTo(8L);
 
         // tearDown
-        redisTemplate.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
+        redisTemplate.delete("key");
     }
 
     @Test
-    @DisplayName("레디스에 저장된 리프레쉬 토큰의 key는 같지만 value가 달라 예외가 발생한다.")
-    void compareRefreshTokenInvalidValue() {
+    @DisplayName("레디스에 존재하는 key면 value를 증가시키고 증가된 값을 리턴한다.")
+    void incrementIfExists() {
         // given
         redisTemplate.opsForValue()
-                .set(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, "refreshToken", 3, TimeUnit.SECONDS);
+                .set("key", "10", 3, TimeUnit.SECONDS);
+
+        // when
+        Long result = redis.incrementIfExists("key", -1);
+
+        // then
+        assertThat(result).isEqualTo(9L);
+        assertThat(redisTemplate.opsForValue().get("key")).isEqualTo("9");
+
+        // tearDown
+        redisTemplate.delete("key");
+    }
+
+    @Test
+    @DisplayName("레디스에 존재하지 않는 key면 증가시키지 않고 null을 리턴한다.")
+    void incrementIfExistsInvalidKey() {
+        // given
+        redisTemplate.delete("key");
+
+        // when
+        Long result = redis.incrementIfExists("key", 1);
 
-        String requestRefreshToken = "refreshToken2";
+        // then
+        assertThat(result).isNull();
+        assertThat(redisTemplate.hasKey("key")).isFalse();
+    }
 
+    @Test
+    @DisplayName("레디스에 리프레쉬 토큰을 등록하고 확인한다.")
+    void setRefreshToken() {
         // when
-        assertThatThrownBy(() -> redis.compareRefreshToken(1L, requestRefreshToken))
-                .isInstanceOf(JwtException.class)
-                .hasMessage(INVALID.getMessage()); // 유효하지 않는 토큰입니다.
+        redis.setRefreshToken(1L, "refreshToken");
+
+        // then
+        String result = redisTemplate.opsForValue()
+                .get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
+
+        assertThat(result).isEqualTo("refreshToken");
 
         // tearDown
         redisTemplate.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L);
@@ -177,4 +263,89 @@ class RedisTest extends IntegrationTestSupport {
         assertThat(result).isNull();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("요청 리프레쉬 토큰이 저장된 토큰과 일치하면 새 리프레쉬 토큰으로 교체한다.")
+    void rotateRefreshToken() {
+        // given
+        redis.setRefreshToken(1L, "refreshToken");
+
+        // when
+        RefreshTokenRotation result = redis.rotateRefreshToken(1L, "refreshToken", "newRefreshToken");
+
+        // then
+        assertThat(result).isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(redis.get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L)).isEqualTo("newRefreshToken");
+
+        // tearDown
+        redisTemplate.delete(List.of(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_FAMILY + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE + 1L));
+    }
+
+    @Test
+    @DisplayName("요청 리프레쉬 토큰이 저장된 토큰과 다르면 교체하지 않는다.")
+    void rotateRefreshTokenMismatch() {
+        // given
+        redis.setRefreshToken(1L, "refreshToken");
+
+        // when
+        RefreshTokenRotation result = redis.rotateRefreshToken(1L, "refreshToken2", "newRefreshToken");
+
+        // then
+        assertThat(result).isEqualTo(RefreshTokenRotation.MISMATCH);
+        assertThat(redis.get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L)).isEqualTo("refreshToken");
+
+        // tearDown
+        redisTemplate.delete(List.of(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_FAMILY + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE + 1L));
+    }
+
+    @Test
+    @DisplayName("저장된 리프레쉬 토큰이 없으면 교체하지 않는다.")
+    void rotateRefreshTokenMissing() {
+        // given
+        redisTemplate.delete(List.of(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_FAMILY + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE + 1L));
+
+        // when
+        RefreshTokenRotation result = redis.rotateRefreshToken(1L, "refreshToken", "newRefreshToken");
+
+        // then
+        assertThat(result).isEqualTo(RefreshTokenRotation.MISSING);
+        assertThat(redis.get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레쉬 토큰을 유예시간이 지난 후 다시 사용하면 현재 리프레쉬 토큰까지 삭제한다.")
+    void rotateRefreshTokenReused() {
+        // given
+        redis.setRefreshToken(1L, "refreshToken");
+        redis.rotateRefreshToken(1L, "refreshToken", "newRefreshToken");
+        redisTemplate.delete(PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE + 1L); // 유예시간 경과
+
+        // when
+        RefreshTokenRotation result = redis.rotateRefreshToken(1L, "refreshToken", "anotherRefreshToken");
+
+        // then
+        assertThat(result).isEqualTo(RefreshTokenRotation.REUSED);
+        assertThat(redis.get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L)).isNull();
+
+        // tearDown
+        redisTemplate.delete(List.of(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_FAMILY + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE + 1L));
+    }
+
+    @Test
+    @DisplayName("같은 리프레쉬 토큰으로 동시에 재발행하면 늦은 요청은 교체하지 않고, 현재 리프레쉬 토큰도 삭제하지 않는다.")
+    void rotateRefreshTokenConcurrently() {
+        // given
+        redis.setRefreshToken(1L, "refreshToken");
+        redis.rotateRefreshToken(1L, "refreshToken", "newRefreshToken");
+
+        // when
+        RefreshTokenRotation result = redis.rotateRefreshToken(1L, "refreshToken", "anotherRefreshToken");
+
+        // then
+        assertThat(result).isEqualTo(RefreshTokenRotation.MISMATCH);
+        assertThat(redis.get(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L)).isEqualTo("newRefreshToken");
+
+        // tearDown
+        redisTemplate.delete(List.of(PREFIX_REDIS_KEY_REFRESH_TOKEN + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_FAMILY + 1L, PREFIX_REDIS_KEY_REFRESH_TOKEN_GRACE + 1L));
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.board.global.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static com.board.global.common.enumeration.ErrorCode.TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class RateLimitFilterTest {
+
+    private static final RateLimitProperties.Policy LOGIN_POLICY = new RateLimitProperties.Policy(
+            "auth", List.of("POST"), List.of("/api/v1/auth/login"), RateLimitProperties.KeyType.IP, 10, 0.2);
+
+    private final RateLimiter rateLimiter = mock(RateLimiter.class);
+    private final RateLimitFilter rateLimitFilter = new RateLimitFilter(
+            new RateLimitProperties(true, 100, List.of(LOGIN_POLICY)), rateLimiter, new ObjectMapper());
+
+    @Test
+    @DisplayName("정책을 초과한 요청은 429 상태 코드와 Retry-After 헤더로 거절한다.")
+    void doFilterRejected() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        given(rateLimiter.tryAcquire(eq(LOGIN_POLICY), eq("ip:10.0.0.1")))
+                .willReturn(RateLimitDecision.reject(1500));
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+        assertThat(response.getContentAsString()).contains(TOO_MANY_REQUESTS.name());
+        assertThat(filterChain.getRequest()).isNull();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 X-Forwarded-For 헤더는 IP 키로 사용하지 않는다.")
+    void doFilterIgnoreForwardedFor() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr("10.0.0.1");
+        request.addHeader("X-Forwarded-For", "1.2.3.4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        given(rateLimiter.tryAcquire(eq(LOGIN_POLICY), eq("ip:10.0.0.1")))
+                .willReturn(RateLimitDecision.reject(1500));
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(429);
+        verify(rateLimiter, never()).tryAcquire(any(), eq("ip:1.2.3.4"));
+    }
+
+    @Test
+    @DisplayName("정책과 일치하지 않는 요청은 요청 수를 제한하지 않는다.")
+    void doFilterNotMatched() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        rateLimitFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(filterChain.getRequest()).isSameAs(request);
+        verify(rateLimiter, never()).tryAcquire(any(), any());
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.board.global.ratelimit;
+
+import com.board.global.infrastructure.redis.Redis;
+import com.board.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest extends IntegrationTestSupport {
+
+    private static final String CLIENT_KEY = "ip:127.0.0.1";
+    private static final String REDIS_KEY = RateLimiter.PREFIX_REDIS_KEY_RATE_LIMIT + "test:" + CLIENT_KEY;
+
+    @Autowired
+    private Redis redis;
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        redis.delete(REDIS_KEY);
+        rateLimiter = new RateLimiter(redis, new RateLimitProperties(true, 100, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.delete(REDIS_KEY);
+    }
+
+    @Test
+    @DisplayName("버킷 크기만큼 요청을 허용하고, 초과하면 다음 토큰이 채워질 때까지 남은 시간과 함께 거절한다.")
+    void tryAcquire() {
+        // given
+        RateLimitProperties.Policy policy = createPolicy(2, 1);
+
+        // when
+        RateLimitDecision first = rateLimiter.tryAcquire(policy, CLIENT_KEY);
+        RateLimitDecision second = rateLimiter.tryAcquire(policy, CLIENT_KEY);
+        RateLimitDecision third = rateLimiter.tryAcquire(policy, CLIENT_KEY);
+
+        // then
+        assertThat(first.allowed()).isTrue();
+        assertThat(second.allowed()).isTrue();
+        assertThat(third.allowed()).isFalse();
+        assertThat(third.retryAfterMillis()).isBetween(1L, 1000L);
+    }
+
+    @Test
+    @DisplayName("거절된 키는 토큰이 채워질 때까지 레디스를 조회하지 않고 노드 로컬에서 거절한다.")
+    void tryAcquireLocalBlock() {
+        // given
+        RateLimitProperties.Policy policy = createPolicy(1, 1);
+        rateLimiter.tryAcquire(policy, CLIENT_KEY);
+        rateLimiter.tryAcquire(policy, CLIENT_KEY);
+
+        redis.delete(REDIS_KEY);
+
+        // when
+        RateLimitDecision result = rateLimiter.tryAcquire(policy, CLIENT_KEY);
+
+        // then
+        assertThat(result.allowed()).isFalse();
+        assertThat(redis.get(REDIS_KEY)).isNull();
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워져 요청을 허용한다.")
+    void tryAcquireAfterRefill() throws Exception {
+        // given
+        RateLimitProperties.Policy policy = createPolicy(1, 10);
+        rateLimiter.tryAcquire(policy, CLIENT_KEY);
+        RateLimitDecision rejected = rateLimiter.tryAcquire(policy, CLIENT_KEY);
+
+        // when
+        Thread.sleep(rejected.retryAfterMillis() + 50);
+        RateLimitDecision result = rateLimiter.tryAcquire(policy, CLIENT_KEY);
+
+        // then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(result.allowed()).isTrue();
+    }
+
+    private RateLimitProperties.Policy createPolicy(long capacity, double refillPerSecond) {
+        return new RateLimitProperties.Policy("test", List.of(), List.of("/**"), RateLimitProperties.KeyType.IP, capacity, refillPerSecond);
+    }
+
+}
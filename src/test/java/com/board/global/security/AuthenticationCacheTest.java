@@ -0,0 +1,73 @@
+package com.board.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthenticationCacheTest {
+
+    private static final String TOKEN_HASH = "n4bQgYhMfWWaL-qgxVrQFaO_TxsrC4Is0V1sFbDwCgg";
+
+    private AuthenticationCache authenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = new AuthenticationCache(true, 100, 60);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰의 인증 객체를 캐시하고, 같은 토큰으로 조회하면 캐시된 인증 객체를 리턴한다.")
+    void get() {
+        // given
+        Authentication authentication = createAuthentication();
+        authenticationCache.put(TOKEN_HASH, new AuthenticatedToken(authentication, System.currentTimeMillis() + 60_000L));
+
+        // when
+        Authentication result = authenticationCache.get(TOKEN_HASH);
+
+        // then
+        assertThat(result).isSameAs(authentication);
+        assertThat(authenticationCache.get("otherTokenHash")).isNull();
+    }
+
+    @Test
+    @DisplayName("토큰 만료 일시가 캐시 유효시간보다 빠르면 토큰 만료 일시에 캐시에서 삭제된다.")
+    void getExpiredToken() throws Exception {
+        // given
+        authenticationCache.put(TOKEN_HASH, new AuthenticatedToken(createAuthentication(), System.currentTimeMillis() + 200L));
+
+        // when
+        Thread.sleep(500);
+
+        // then
+        assertThat(authenticationCache.get(TOKEN_HASH)).isNull();
+    }
+
+    @Test
+    @DisplayName("캐시가 비활성화되어 있으면 등록하지 않는다.")
+    void getDisabled() {
+        // given
+        AuthenticationCache disabled = new AuthenticationCache(false, 100, 60);
+        disabled.put(TOKEN_HASH, new AuthenticatedToken(createAuthentication(), System.currentTimeMillis() + 60_000L));
+
+        // when
+        Authentication result = disabled.get(TOKEN_HASH);
+
+        // then
+        assertThat(result).isNull();
+    }
+
+    private Authentication createAuthentication() {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        SecurityUser securityUser = new SecurityUser(1L, "khghouse@daum.net", authorities);
+        return new UsernamePasswordAuthenticationToken(securityUser, null, authorities);
+    }
+
+}
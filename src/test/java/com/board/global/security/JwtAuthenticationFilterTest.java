@@ -0,0 +1,86 @@
+package com.board.global.security;
+
+import com.board.global.common.util.HashUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.BDDMockito;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+    private static final String TOKEN_HASH = HashUtil.sha256(TOKEN);
+
+    private final JwtTokenProvider jwtTokenProvider = mock(JwtTokenProvider.class);
+    private final RevokedTokenRegistry revokedTokenRegistry = mock(RevokedTokenRegistry.class);
+
+    private AuthenticationCache authenticationCache;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = new AuthenticationCache(true, 100, 60);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenProvider, authenticationCache, revokedTokenRegistry);
+
+        BDDMockito.given(jwtTokenProvider.resolveToken(any()))
+                .willReturn(TOKEN);
+        BDDMockito.given(jwtTokenProvider.authenticateAccessToken(TOKEN))
+                .willReturn(new AuthenticatedToken(createAuthentication(), System.currentTimeMillis() + 60_000L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰이면 인증 객체를 캐시하고 시큐리티 컨텍스트에 저장한다.")
+    void doFilter() throws Exception {
+        // given
+        BDDMockito.given(revokedTokenRegistry.isRevoked(TOKEN_HASH))
+                .willReturn(false);
+
+        // when
+        jwtAuthenticationFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        assertThat(authenticationCache.get(TOKEN_HASH)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("블랙 리스트를 확인한 후 캐시하기 전에 로그아웃되면 캐시를 삭제하고 인증하지 않는다.")
+    void doFilterRevokedBeforeCaching() throws Exception {
+        // given
+        BDDMockito.given(revokedTokenRegistry.isRevoked(TOKEN_HASH))
+                .willReturn(false, true);
+
+        // when
+        jwtAuthenticationFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // then
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(authenticationCache.get(TOKEN_HASH)).isNull();
+    }
+
+    private Authentication createAuthentication() {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        SecurityUser securityUser = new SecurityUser(1L, "khghouse@daum.net", authorities);
+        return new UsernamePasswordAuthenticationToken(securityUser, null, authorities);
+    }
+
+}
@@ -10,7 +10,6 @@ import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -28,9 +27,6 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
-    @Autowired
-    private AuthenticationProvider authenticationProvider;
-
     @Autowired
     private MemberRepository memberRepository;
 
@@ -44,43 +40,18 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
                 .build();
         memberRepository.save(member);
 
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("khghouse@daum.net", null);
-        Authentication authenticate = authenticationProvider.authenticate(authenticationToken);
+        Authentication authenticate = createAuthentication(member);
 
         // when
         JwtToken result = jwtTokenProvider.generateToken(authenticate);
 
         // then
         assertThat(result).isNotNull();
-        jwtTokenProvider.validateAccessToken(result.getAccessToken());
+        jwtTokenProvider.authenticateAccessToken(result.getAccessToken());
         jwtTokenProvider.validateRefreshToken(result.getRefreshToken());
     }
 
 
-    @Test
-    @DisplayName("액세스 토큰으로 인증 객체를 리턴하고 확인한다.")
-    void getAuthentication() {
-        // given
-        Member member = Member.builder()
-                .email("khghouse@daum.net")
-                .password("Khghouse12!@")
-                .build();
-        memberRepository.save(member);
-
-        UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken("khghouse@daum.net", null);
-        Authentication authenticate = authenticationProvider.authenticate(authenticationToken);
-        JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
-
-        // when
-        Authentication result = jwtTokenProvider.getAuthentication(jwtToken.getAccessToken());
-        SecurityUser user = (SecurityUser) result.getPrincipal();
-
-        // then
-        assertThat(result.getName()).isEqualTo("khghouse@daum.net");
-        assertThat(user.getEmail()).isEqualTo("khghouse@daum.net");
-        assertThat(user.getMemberId()).isEqualTo(member.getId());
-    }
-
     @Test
     @DisplayName("액세스 토큰으로 인증 객체를 리턴하지만 권한 정보가 없어서 예외가 발생한다.")
     void getAuthenticationNotAuthorized() {
@@ -100,7 +71,7 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
                 .compact();
 
         // when, then
-        assertThatThrownBy(() -> jwtTokenProvider.getAuthentication(accessToken))
+        assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken(accessToken))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessage("권한 정보가 없는 토큰입니다.");
     }
@@ -142,26 +113,51 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
     }
 
     @Test
-    @DisplayName("액세스 토큰의 유효성을 검증하고 성공한다.")
-    void validateToken() {
+    @DisplayName("액세스 토큰을 1번 파싱하여 인증 객체와 만료 일시를 함께 리턴한다.")
+    void authenticateAccessToken() {
         // given
-        String accessToken = Jwts.builder()
-                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode("2z6oNf/GwepEYumNk5rJSIyADL+WQ3YrArbVv+LTQJs=")))
-                .expiration(new Date(System.currentTimeMillis() + 3600L * 1000L))
-                .compact();
+        Member member = Member.builder()
+                .email("khghouse@daum.net")
+                .password("Khghouse12!@")
+                .build();
+        memberRepository.save(member);
+
+        Authentication authenticate = createAuthentication(member);
+        JwtToken jwtToken = jwtTokenProvider.generateToken(authenticate);
 
         // when
-        boolean result = jwtTokenProvider.validateAccessToken(accessToken);
+        AuthenticatedToken result = jwtTokenProvider.authenticateAccessToken(jwtToken.getAccessToken());
 
         // then
-        assertThat(result).isTrue();
+        SecurityUser user = (SecurityUser) result.authentication().getPrincipal();
+        assertThat(result.authentication().getName()).isEqualTo("khghouse@daum.net");
+        assertThat(user.getEmail()).isEqualTo("khghouse@daum.net");
+        assertThat(user.getMemberId()).isEqualTo(member.getId());
+        assertThat(result.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+    }
+
+    @Test
+    @DisplayName("권한 정보가 같은 토큰들은 같은 권한 객체를 공유한다.")
+    void getAuthenticationInternedAuthorities() {
+        // given
+        String firstToken = createAccessToken(1L, "khghouse@daum.net");
+        String secondToken = createAccessToken(2L, "khghouse@naver.com");
+
+        // when
+        Authentication first = jwtTokenProvider.authenticateAccessToken(firstToken).authentication();
+        Authentication second = jwtTokenProvider.authenticateAccessToken(secondToken).authentication();
+
+        // then
+        assertThat(first.getName()).isEqualTo("khghouse@daum.net");
+        assertThat(second.getName()).isEqualTo("khghouse@naver.com");
+        assertThat(first.getAuthorities().iterator().next()).isSameAs(second.getAuthorities().iterator().next());
     }
 
     @Test
     @DisplayName("액세스 토큰의 유효성 체크에서 손상된 토큰으로 예외가 발생한다.")
     void validateTokenMalformedJwtException() {
         // when, then
-        assertThatThrownBy(() -> jwtTokenProvider.validateAccessToken("json.web.token"))
+        assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken("json.web.token"))
                 .isInstanceOf(JwtException.class)
                 .satisfies(e -> {
                     JwtException jwtException = (JwtException) e;
@@ -181,7 +177,7 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
         TimeUnit.SECONDS.sleep(1);
 
         // when, then
-        assertThatThrownBy(() -> jwtTokenProvider.validateAccessToken(accessToken))
+        assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken(accessToken))
                 .isInstanceOf(JwtException.class)
                 .satisfies(e -> {
                     JwtException jwtException = (JwtException) e;
@@ -199,7 +195,7 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
                 .compact();
 
         // when, then
-        assertThatThrownBy(() -> jwtTokenProvider.validateAccessToken(accessToken))
+        assertThatThrownBy(() -> jwtTokenProvider.authenticateAccessToken(accessToken))
                 .isInstanceOf(JwtException.class)
                 .satisfies(e -> {
                     JwtException jwtException = (JwtException) e;
@@ -207,4 +203,20 @@ class JwtTokenProviderTest extends IntegrationTestSupport {
                 });
     }
 
-}
\ No newline at end of file
+    private Authentication createAuthentication(Member member) {
+        SecurityUser securityUser = new SecurityUser(member);
+        return new UsernamePasswordAuthenticationToken(securityUser, null, securityUser.getAuthorities());
+    }
+
+    private String createAccessToken(Long memberId, String email) {
+        return Jwts.builder()
+                .subject(email)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode("2z6oNf/GwepEYumNk5rJSIyADL+WQ3YrArbVv+LTQJs=")))
+                .claim("memberId", memberId)
+                .claim("email", email)
+                .claim("authorities", "ROLE_USER")
+                .expiration(new Date(System.currentTimeMillis() + 3600L * 1000L))
+                .compact();
+    }
+
+}
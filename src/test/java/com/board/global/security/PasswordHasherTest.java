@@ -0,0 +1,101 @@
+package com.board.global.security;
+
+import com.board.global.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.board.global.common.enumeration.ErrorCode.PASSWORD_HASHING_BUSY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드 풀에서 비밀번호를 해시하고 검증한다.")
+    void encodeAndMatches() {
+        // given
+        passwordHasher = new PasswordHasher(SecurityEncoder.passwordEncoder(), 1, 1, 5000);
+
+        // when
+        String encodedPassword = passwordHasher.encode("Khghouse12!@");
+
+        // then
+        assertThat(passwordHasher.matches("Khghouse12!@", encodedPassword)).isTrue();
+        assertThat(passwordHasher.matches("Khghouse12!#", encodedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 사용 중이면 즉시 거절한다.")
+    void encodeRejected() throws Exception {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingPasswordEncoder(release), 1, 1, 5000);
+
+        CompletableFuture.runAsync(() -> passwordHasher.encode("running"));
+        waitUntil(() -> passwordHasher.getActiveCount() == 1);
+        CompletableFuture.runAsync(() -> passwordHasher.encode("queued"));
+        waitUntil(() -> passwordHasher.getQueueDepth() == 1);
+
+        // when, then
+        assertThatThrownBy(() -> passwordHasher.encode("rejected"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(PASSWORD_HASHING_BUSY.getMessage());
+        assertThat(passwordHasher.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 초과하면 예외가 발생한다.")
+    void encodeTimeout() {
+        // given
+        passwordHasher = new PasswordHasher(new BlockingPasswordEncoder(release), 1, 1, 100);
+
+        // when, then
+        assertThatThrownBy(() -> passwordHasher.encode("timeout"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(PASSWORD_HASHING_BUSY.getMessage());
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * release 되기 전까지 해시를 끝내지 않는 인코더
+     */
+    private record BlockingPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+}
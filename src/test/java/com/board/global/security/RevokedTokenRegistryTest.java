@@ -0,0 +1,113 @@
+package com.board.global.security;
+
+import com.board.global.common.util.HashUtil;
+import com.board.global.infrastructure.redis.Redis;
+import com.board.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RevokedTokenRegistryTest extends IntegrationTestSupport {
+
+    private static final String TOKEN_HASH = HashUtil.sha256("header.payload.signature");
+
+    @Autowired
+    private Redis redis;
+
+    private AuthenticationCache authenticationCache;
+    private RevokedTokenRegistry revokedTokenRegistry;
+
+    @BeforeEach
+    void setUp() {
+        redis.delete("logout:" + TOKEN_HASH);
+        authenticationCache = new AuthenticationCache(true, 100, 60);
+        revokedTokenRegistry = createRevokedTokenRegistry(authenticationCache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.delete("logout:" + TOKEN_HASH);
+    }
+
+    @Test
+    @DisplayName("로그아웃된 토큰은 블랙 리스트에 등록되고, 로그아웃되지 않은 토큰은 블룸 필터에서 걸러진다.")
+    void isRevoked() {
+        // given
+        revokedTokenRegistry.revoke(TOKEN_HASH);
+
+        // when
+        boolean revoked = revokedTokenRegistry.isRevoked(TOKEN_HASH);
+        boolean notRevoked = revokedTokenRegistry.isRevoked(HashUtil.sha256("other.access.token"));
+
+        // then
+        assertThat(revoked).isTrue();
+        assertThat(notRevoked).isFalse();
+        assertThat(redis.isLoggedOutAccessToken(TOKEN_HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃하면 다른 노드의 인증 캐시가 삭제되고, 블룸 필터에 추가된다.")
+    void revokeToAnotherNode() throws Exception {
+        // given
+        AuthenticationCache anotherNodeCache = new AuthenticationCache(true, 100, 60);
+        RevokedTokenRegistry anotherNode = createRevokedTokenRegistry(anotherNodeCache);
+        anotherNodeCache.put(TOKEN_HASH, new AuthenticatedToken(createAuthentication(), System.currentTimeMillis() + 60_000L));
+
+        // when
+        revokedTokenRegistry.revoke(TOKEN_HASH);
+        Thread.sleep(500); // pub/sub 메시지 수신 대기
+
+        // then
+        assertThat(anotherNodeCache.get(TOKEN_HASH)).isNull();
+        assertThat(anotherNode.isRevoked(TOKEN_HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("블룸 필터를 다시 생성하면 레디스의 블랙 리스트가 반영된다.")
+    void rebuild() {
+        // given
+        redis.logoutAccessToken(TOKEN_HASH);
+
+        // when
+        revokedTokenRegistry.rebuild();
+
+        // then
+        assertThat(revokedTokenRegistry.isRevoked(TOKEN_HASH)).isTrue();
+    }
+
+    @Test
+    @DisplayName("무효화 메시지를 놓친 토큰도 블룸 필터를 다시 생성할 때 인증 캐시에서 삭제된다.")
+    void rebuildInvalidatesCache() {
+        // given
+        authenticationCache.put(TOKEN_HASH, new AuthenticatedToken(createAuthentication(), System.currentTimeMillis() + 60_000L));
+        redis.logoutAccessToken(TOKEN_HASH);
+
+        // when
+        revokedTokenRegistry.rebuild();
+
+        // then
+        assertThat(authenticationCache.get(TOKEN_HASH)).isNull();
+    }
+
+    private RevokedTokenRegistry createRevokedTokenRegistry(AuthenticationCache cache) {
+        RevokedTokenRegistry registry = new RevokedTokenRegistry(redis, cache, 1000, 0.001);
+        registry.subscribe();
+        return registry;
+    }
+
+    private Authentication createAuthentication() {
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        SecurityUser securityUser = new SecurityUser(1L, "khghouse@daum.net", authorities);
+        return new UsernamePasswordAuthenticationToken(securityUser, null, authorities);
+    }
+
+}
@@ -3,11 +3,13 @@ package com.board.support;
 import com.board.domain.article.controller.ArticleController;
 import com.board.domain.article.controller.ArticleLikeController;
 import com.board.domain.auth.controller.AuthController;
+import com.board.domain.comment.controller.ArticleCommentController;
 import com.board.domain.comment.controller.CommentController;
 import com.board.global.security.JwtTokenProvider;
 import com.board.domain.article.service.ArticleLikeService;
 import com.board.domain.article.service.ArticleService;
 import com.board.domain.auth.service.AuthService;
+import com.board.domain.comment.service.CommentExportService;
 import com.board.domain.comment.service.CommentService;
 import com.board.support.security.WithCustomSecurityUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -20,7 +22,8 @@ import org.springframework.test.web.servlet.MockMvc;
         ArticleController.class,
         AuthController.class,
         CommentController.class,
-        ArticleLikeController.class
+        ArticleLikeController.class,
+        ArticleCommentController.class
 })
 @WithCustomSecurityUser
 public abstract class ControllerTestSupport {
@@ -46,4 +49,7 @@ public abstract class ControllerTestSupport {
     @MockBean
     protected ArticleLikeService articleLikeService;
 
+    @MockBean
+    protected CommentExportService commentExportService;
+
 }